@@ -0,0 +1,145 @@
+package lolpago.spell.application.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 스펠 경로에서 사용하는 크기 제한 + TTL 로컬 캐시
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ */
+public class SpellLocalCache<K, V> {
+
+	private final long ttlNanos;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public SpellLocalCache(int maximumSize, long ttl, TimeUnit unit) {
+		this.ttlNanos = unit.toNanos(ttl);
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+				if(size() > maximumSize) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * 캐시 조회, 없거나 TTL 이 지났으면 빈 값
+	 */
+	public Optional<V> get(K key) {
+		lock.lock();
+		try {
+			CacheEntry<V> entry = entries.get(key);
+			if(entry == null) {
+				missCount.increment();
+				return Optional.empty();
+			}
+			if(entry.isExpired(System.nanoTime())) {
+				entries.remove(key);
+				evictionCount.increment();
+				missCount.increment();
+				return Optional.empty();
+			}
+
+			hitCount.increment();
+			return Optional.of(entry.value());
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void put(K key, V value) {
+		lock.lock();
+		try {
+			entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos));
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void invalidate(K key) {
+		lock.lock();
+		try {
+			entries.remove(key);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public int size() {
+		lock.lock();
+		try {
+			return entries.size();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	public long evictionCount() {
+		return evictionCount.sum();
+	}
+
+	// 조회 중 캐시 적중 비율, 조회가 없었으면 0
+	public double hitRatio() {
+		long hits = hitCount();
+		long requests = hits + missCount();
+		return requests == 0 ? 0.0 : (double) hits / requests;
+	}
+
+	/**
+	 * 캐시 적중/실패, 제거 수, 크기, 적중률을 cache.* 메트릭으로 등록
+	 */
+	public SpellLocalCache<K, V> bindTo(MeterRegistry meterRegistry, String cacheName) {
+		FunctionCounter.builder("cache.gets", this, SpellLocalCache::hitCount)
+			.tag("cache", cacheName).tag("result", "hit")
+			.register(meterRegistry);
+		FunctionCounter.builder("cache.gets", this, SpellLocalCache::missCount)
+			.tag("cache", cacheName).tag("result", "miss")
+			.register(meterRegistry);
+		FunctionCounter.builder("cache.evictions", this, SpellLocalCache::evictionCount)
+			.tag("cache", cacheName)
+			.register(meterRegistry);
+		Gauge.builder("cache.size", this, SpellLocalCache::size)
+			.tag("cache", cacheName)
+			.register(meterRegistry);
+		Gauge.builder("cache.hit.ratio", this, SpellLocalCache::hitRatio)
+			.tag("cache", cacheName)
+			.register(meterRegistry);
+		return this;
+	}
+
+	private record CacheEntry<V>(V value, long expireAtNanos) {
+		private boolean isExpired(long now) {
+			return now - expireAtNanos >= 0;
+		}
+	}
+
+}
@@ -0,0 +1,22 @@
+package lolpago.spell.application.command;
+
+import java.util.regex.Pattern;
+
+public record SpellAlertCommand(
+	Long summonerId,
+	String lastAlertId
+) {
+	// 처음부터 읽을 때의 알림 ID
+	public static final String FIRST_ALERT_ID = "0-0";
+	// Redis Stream ID 형식 ("<ms>-<seq>" 또는 "<ms>")
+	private static final Pattern ALERT_ID_PATTERN = Pattern.compile("\\d+(-\\d+)?");
+
+	public static SpellAlertCommand of(Long summonerId, String lastAlertId) {
+		return new SpellAlertCommand(summonerId, lastAlertId == null || lastAlertId.isBlank() ? FIRST_ALERT_ID : lastAlertId);
+	}
+
+	// 비어 있거나 스트림 ID 형식이면 유효
+	public static boolean isValidAlertId(String lastAlertId) {
+		return lastAlertId == null || lastAlertId.isBlank() || ALERT_ID_PATTERN.matcher(lastAlertId).matches();
+	}
+}
@@ -0,0 +1,12 @@
+package lolpago.spell.application.command;
+
+import java.util.List;
+
+import lolpago.region.Region;
+
+public record SpellBatchCheckCommand(
+	Long summonerId,
+	List<String> finalTexts,
+	Region region
+) {
+}
@@ -0,0 +1,32 @@
+package lolpago.spell.application.command;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record SpellCoolDownAdjustCommand(
+	Long summonerId,
+	String finalText,
+	long remainingMillis
+) {
+	// "1분 30초 남음", "30초", "2분" 형식의 남은 시간
+	private static final Pattern MINUTES_PATTERN = Pattern.compile("(\\d{1,3})\\s*분");
+	private static final Pattern SECONDS_PATTERN = Pattern.compile("(\\d{1,4})\\s*초");
+
+	public static SpellCoolDownAdjustCommand of(Long summonerId, String finalText) {
+		long remainingMillis = TimeUnit.MINUTES.toMillis(firstNumber(MINUTES_PATTERN, finalText))
+			+ TimeUnit.SECONDS.toMillis(firstNumber(SECONDS_PATTERN, finalText));
+		return new SpellCoolDownAdjustCommand(summonerId, finalText, remainingMillis);
+	}
+
+	// 텍스트에 분이나 초 단위의 남은 시간이 있으면 유효
+	public static boolean isValidText(String finalText) {
+		return finalText != null
+			&& (MINUTES_PATTERN.matcher(finalText).find() || SECONDS_PATTERN.matcher(finalText).find());
+	}
+
+	private static long firstNumber(Pattern pattern, String finalText) {
+		Matcher matcher = pattern.matcher(finalText);
+		return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+	}
+}
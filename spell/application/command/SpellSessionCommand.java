@@ -0,0 +1,9 @@
+package lolpago.spell.application.command;
+
+import lolpago.region.Region;
+
+public record SpellSessionCommand(
+	Long summonerId,
+	Region region
+) {
+}
@@ -0,0 +1,25 @@
+package lolpago.spell.application.cooldown;
+
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 스펠 쿨타임 저장소의 리액티브 버전 (reactive 프로필)
+ * 저장 방식과 등록 의미는 SpellCoolDownStore 와 같다
+ */
+public interface ReactiveSpellCoolDownStore {
+
+	Mono<Long> save(SpellCoolDownKey spellCoolDownKey, long coolTimeMillis);
+
+	Mono<Map<SpellCoolDownKey, Long>> saveAll(Map<SpellCoolDownKey, Long> coolTimeMillisByKey);
+
+	Mono<Boolean> exists(SpellCoolDownKey spellCoolDownKey);
+
+	Mono<Map<SpellCoolDownKey, Long>> findRemaining(Long summonerId);
+
+	Mono<Boolean> delete(SpellCoolDownKey spellCoolDownKey);
+
+	Mono<Boolean> adjust(SpellCoolDownKey spellCoolDownKey, long remainingMillis);
+
+}
@@ -0,0 +1,18 @@
+package lolpago.spell.application.cooldown;
+
+import java.util.List;
+
+import lolpago.spell.application.result.SpellAlertResult;
+
+/**
+ * 소환사별 쿨타임 만료 알림 기록
+ * 알림은 만료 스캐너가 추가하고, 클라이언트는 마지막으로 받은 알림 ID 이후부터 이어서 읽는다
+ */
+public interface SpellAlertStream {
+
+	/**
+	 * lastAlertId 이후(미포함)의 알림을 오래된 순으로 최대 count 개 반환
+	 */
+	List<SpellAlertResult> readAfter(Long summonerId, String lastAlertId, int count);
+
+}
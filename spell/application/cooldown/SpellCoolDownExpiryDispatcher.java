@@ -0,0 +1,123 @@
+package lolpago.spell.application.cooldown;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lolpago.spell.application.cache.SpellLocalCache;
+import lolpago.spell.application.event.SpellCoolDownAdjustedEvent;
+import lolpago.spell.application.event.SpellCoolDownCancelledEvent;
+import lolpago.spell.application.event.SpellCoolDownExpiredEvent;
+import lolpago.spell.application.event.SpellCoolDownRegisteredEvent;
+
+/**
+ * 등록된 쿨타임의 만료를 예약하고, 만료 신호(타이밍 휠, Redis 키 만료 이벤트, 만료 스캐너)를 한 곳에서 받아
+ * 대기자를 깨우고 만료 이벤트를 발행
+ * 쿨타임이 조정되면 adjust 로 다시 예약하고, 취소되면 cancel 로 예약을 지우고 대기자를 바로 깨운다
+ * 신호마다 원래 만료 시각과의 차이를 spell.cooldown.alert.skew (source=wheel|keyspace|scanner) 로 기록해 출처별 지연을 비교한다
+ */
+@Component
+public class SpellCoolDownExpiryDispatcher {
+	// 만료 시각 보관 시간, 가장 긴 쿨타임과 늦게 오는 만료 신호를 모두 덮을 만큼 길게
+	private static final long DEADLINE_TTL_MINUTES = 15;
+
+	private final SpellCoolDownWaiterRegistry waiterRegistry;
+	private final SpellCoolDownTimingWheel coolDownTimingWheel;
+	private final ApplicationEventPublisher eventPublisher;
+	// 쿨타임 키 -> 이 노드가 알고 있는 만료 시각(epoch ms), 키 만료 이벤트와 휠은 만료 시각을 함께 주지 않는다
+	private final SpellLocalCache<String, Long> deadlines;
+	private final Map<SpellCoolDownExpirySource, Timer> alertSkews = new EnumMap<>(SpellCoolDownExpirySource.class);
+
+	public SpellCoolDownExpiryDispatcher(SpellCoolDownWaiterRegistry waiterRegistry,
+		SpellCoolDownTimingWheel coolDownTimingWheel,
+		ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry,
+		@Value("${spell.cooldown.deadline-cache.maximum-size:100000}") int maximumSize
+	) {
+		this.waiterRegistry = waiterRegistry;
+		this.coolDownTimingWheel = coolDownTimingWheel;
+		this.eventPublisher = eventPublisher;
+		this.deadlines = new SpellLocalCache<>(maximumSize, DEADLINE_TTL_MINUTES, TimeUnit.MINUTES);
+		for(SpellCoolDownExpirySource source : SpellCoolDownExpirySource.values()) {
+			alertSkews.put(source, Timer.builder("spell.cooldown.alert.skew")
+				.tag("source", source.tag())
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * Redis 에 등록된 쿨타임을 타이밍 휠에도 예약하고 등록 이벤트 발행
+	 */
+	public void register(SpellCoolDownKey spellCoolDownKey, long coolTimeMillis) {
+		String championSpellRedisKey = spellCoolDownKey.toRedisKey();
+		deadlines.put(championSpellRedisKey, System.currentTimeMillis() + coolTimeMillis);
+		coolDownTimingWheel.schedule(championSpellRedisKey, coolTimeMillis,
+			key -> dispatch(key, SpellCoolDownExpirySource.WHEEL));
+		eventPublisher.publishEvent(
+			new SpellCoolDownRegisteredEvent(spellCoolDownKey, coolTimeMillis, spellCoolDownKey.registerMessage())
+		);
+	}
+
+	/**
+	 * 남은 시간이 조정된 쿨타임을 타이밍 휠에 다시 예약하고 조정 이벤트 발행 (등록 이벤트는 다시 보내지 않는다)
+	 * 대기자는 그대로 두어 조정된 시각에 완료된다
+	 */
+	public void adjust(SpellCoolDownKey spellCoolDownKey, long remainingMillis) {
+		String championSpellRedisKey = spellCoolDownKey.toRedisKey();
+		deadlines.put(championSpellRedisKey, System.currentTimeMillis() + remainingMillis);
+		coolDownTimingWheel.schedule(championSpellRedisKey, remainingMillis,
+			key -> dispatch(key, SpellCoolDownExpirySource.WHEEL));
+		eventPublisher.publishEvent(new SpellCoolDownAdjustedEvent(spellCoolDownKey, remainingMillis));
+	}
+
+	/**
+	 * 취소된 쿨타임의 만료 예약을 지우고, 대기자를 바로 완료한 뒤 취소 이벤트 발행
+	 */
+	public void cancel(SpellCoolDownKey spellCoolDownKey) {
+		String championSpellRedisKey = spellCoolDownKey.toRedisKey();
+		coolDownTimingWheel.cancel(championSpellRedisKey);
+		deadlines.invalidate(championSpellRedisKey);
+		waiterRegistry.cancel(championSpellRedisKey);
+		eventPublisher.publishEvent(new SpellCoolDownCancelledEvent(spellCoolDownKey));
+	}
+
+	/**
+	 * 쿨타임 키 만료 처리, 스펠 쿨타임 키 형식이 아니면 무시
+	 * 이 노드가 만료 시각을 알고 있으면 신호 출처별 지연을 기록
+	 */
+	public void dispatch(String championSpellRedisKey, SpellCoolDownExpirySource source) {
+		SpellCoolDownKey.parse(championSpellRedisKey).ifPresent(spellCoolDownKey -> {
+			deadlines.get(spellCoolDownKey.toRedisKey()).ifPresent(deadline -> recordSkew(source, deadline));
+			expire(spellCoolDownKey);
+		});
+	}
+
+	/**
+	 * 만료 시각을 함께 받은 만료 처리 (만료 스캐너, Redis 서버 시각 기준)
+	 */
+	public void dispatch(String championSpellRedisKey, SpellCoolDownExpirySource source, long expireAtMillis) {
+		SpellCoolDownKey.parse(championSpellRedisKey).ifPresent(spellCoolDownKey -> {
+			recordSkew(source, expireAtMillis);
+			expire(spellCoolDownKey);
+		});
+	}
+
+	// 대기자는 항상 현재 형식의 키로 찾는다 (해시 태그가 없는 이전 형식의 만료 이벤트도 같은 대기자를 완료)
+	private void expire(SpellCoolDownKey spellCoolDownKey) {
+		waiterRegistry.complete(spellCoolDownKey.toRedisKey());
+		eventPublisher.publishEvent(new SpellCoolDownExpiredEvent(spellCoolDownKey));
+	}
+
+	// 노드와 Redis 의 시계 차이를 포함하므로 앞선 신호는 0 으로 기록
+	private void recordSkew(SpellCoolDownExpirySource source, long deadlineMillis) {
+		alertSkews.get(source).record(Math.max(0, System.currentTimeMillis() - deadlineMillis), TimeUnit.MILLISECONDS);
+	}
+
+}
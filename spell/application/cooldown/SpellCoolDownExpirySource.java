@@ -0,0 +1,24 @@
+package lolpago.spell.application.cooldown;
+
+/**
+ * 쿨타임 만료 신호의 출처, spell.cooldown.alert.skew 의 source 태그 값
+ */
+public enum SpellCoolDownExpirySource {
+	// 이 노드의 타이밍 휠
+	WHEEL("wheel"),
+	// Redis 키 만료 이벤트
+	KEYSPACE("keyspace"),
+	// 만료 인덱스 스캐너
+	SCANNER("scanner");
+
+	private final String tag;
+
+	SpellCoolDownExpirySource(String tag) {
+		this.tag = tag;
+	}
+
+	public String tag() {
+		return tag;
+	}
+
+}
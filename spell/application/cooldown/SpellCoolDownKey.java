@@ -0,0 +1,85 @@
+package lolpago.spell.application.cooldown;
+
+import java.util.Optional;
+
+import lolpago.spell.application.command.SpellCoolDownCommand;
+
+/**
+ * Redis 에 저장되는 스펠 쿨타임 키 ("{소환사ID}:챔피언:스펠")
+ * 소환사 ID 를 해시 태그로 감싸 같은 소환사의 쿨타임 키와 인덱스가 클러스터에서 같은 슬롯에 놓인다
+ * 해시 저장 방식에서는 소환사별 해시("spell:cooldown:{소환사ID}")의 필드("챔피언:스펠")로 저장
+ */
+public record SpellCoolDownKey(
+	Long summonerId,
+	String championName,
+	String spellName
+) {
+	private static final String DELIMITER = ":";
+	private static final String HASH_KEY_PREFIX = "spell:cooldown:";
+
+	public static SpellCoolDownKey from(SpellCoolDownCommand command) {
+		return new SpellCoolDownKey(command.summonerId(), command.championName(), command.spellName());
+	}
+
+	// Redis 키 문자열을 다시 쿨타임 키로 변환, 형식이 다르면 빈 값
+	// 해시 태그가 없는 이전 형식("소환사ID:챔피언:스펠")도 남은 키가 만료될 때까지 받아들인다
+	public static Optional<SpellCoolDownKey> parse(String redisKey) {
+		String[] tokens = redisKey.split(DELIMITER, 3);
+		if(tokens.length != 3) {
+			return Optional.empty();
+		}
+
+		String summonerId = tokens[0];
+		if(summonerId.length() > 2 && summonerId.startsWith("{") && summonerId.endsWith("}")) {
+			summonerId = summonerId.substring(1, summonerId.length() - 1);
+		}
+		try {
+			return Optional.of(new SpellCoolDownKey(Long.parseLong(summonerId), tokens[1], tokens[2]));
+		}
+		catch (NumberFormatException ex) {
+			return Optional.empty();
+		}
+	}
+
+	public String toRedisKey() {
+		return redisKeyOf(summonerId, toHashField());
+	}
+
+	// 소환사 ID 와 필드("챔피언:스펠")로 쿨타임 키 생성 ("{소환사ID}:챔피언:스펠")
+	public static String redisKeyOf(Long summonerId, String field) {
+		return "{" + summonerId + "}" + DELIMITER + field;
+	}
+
+	public String toRedisValue() {
+		return championName + DELIMITER + spellName;
+	}
+
+	// 해시 저장 방식에서 소환사의 모든 쿨타임을 담는 해시 키 ("spell:cooldown:{소환사ID}")
+	public String toHashKey() {
+		return hashKeyOf(summonerId);
+	}
+
+	// 해시 저장 방식에서 쿨타임 하나의 필드 ("챔피언:스펠")
+	public String toHashField() {
+		return championName + DELIMITER + spellName;
+	}
+
+	public static String hashKeyOf(Long summonerId) {
+		return HASH_KEY_PREFIX + "{" + summonerId + "}";
+	}
+
+	// 스펠 쿨타임이 등록되었다는 메시지 생성
+	public String registerMessage() {
+		return String.format("%s %s 쿨타임 등록했습니다!", championName, spellName);
+	}
+
+	// 스펠 쿨타임이 끝났다는 메시지 생성
+	public String alertMessage() {
+		return String.format("%s %s 돌았습니다!", championName, spellName);
+	}
+
+	// 스펠 쿨타임이 취소되었다는 메시지 생성
+	public String cancelMessage() {
+		return String.format("%s %s 쿨타임 취소했습니다!", championName, spellName);
+	}
+}
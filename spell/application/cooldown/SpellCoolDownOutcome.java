@@ -0,0 +1,11 @@
+package lolpago.spell.application.cooldown;
+
+/**
+ * 쿨타임 만료 대기가 끝난 이유
+ */
+public enum SpellCoolDownOutcome {
+	// 쿨타임이 끝남
+	EXPIRED,
+	// 잘못 등록된 쿨타임이 취소됨
+	CANCELLED
+}
@@ -0,0 +1,46 @@
+package lolpago.spell.application.cooldown;
+
+import java.util.Map;
+
+/**
+ * 스펠 쿨타임 저장소
+ * spell.cooldown.storage 로 저장 방식 선택 (key: 쿨타임마다 문자열 키, hash: 소환사별 해시 + 필드 단위 만료)
+ * 등록은 저장, 만료 인덱스 기록(만료 스캐너가 켜져 있을 때), 등록 이벤트 발행을 한 번에 원자적으로 수행
+ */
+public interface SpellCoolDownStore {
+
+	/**
+	 * 쿨타임 등록 후 실제 남은 시간(ms) 반환
+	 * 같은 쿨타임이 이미 남아 있으면(같은 소환사가 같은 스펠을 다시 보고) 덮어쓰지 않고 그 남은 시간을 반환
+	 * 쿨타임 키는 소환사 단위(소환사ID:챔피언:스펠)라 팀원끼리 쿨타임을 공유하지는 않는다
+	 */
+	long save(SpellCoolDownKey spellCoolDownKey, long coolTimeMillis);
+
+	/**
+	 * 여러 쿨타임을 한 번의 Redis 왕복으로 등록 후 쿨타임 키별 실제 남은 시간(ms) 반환 (입력 순서 유지)
+	 */
+	Map<SpellCoolDownKey, Long> saveAll(Map<SpellCoolDownKey, Long> coolTimeMillisByKey);
+
+	/**
+	 * 쿨타임이 아직 남아 있는지 확인
+	 */
+	boolean exists(SpellCoolDownKey spellCoolDownKey);
+
+	/**
+	 * 소환사의 진행 중인 모든 쿨타임과 남은 시간(ms)을 조회 (남은 시간이 짧은 순, 해시 방식은 왕복 1회, 키 방식은 인덱스 조회를 더해 2회)
+	 */
+	Map<SpellCoolDownKey, Long> findRemaining(Long summonerId);
+
+	/**
+	 * 쿨타임을 지우고 만료 인덱스에서도 제거, 남아 있던 쿨타임이면 true
+	 * 다른 노드에는 취소 이벤트로 알린다
+	 */
+	boolean delete(SpellCoolDownKey spellCoolDownKey);
+
+	/**
+	 * 남아 있는 쿨타임의 남은 시간을 다시 쓰고 만료 인덱스도 옮긴다, 쿨타임이 없으면 false
+	 * 다른 노드에는 조정 이벤트로 알려 만료 예약을 다시 잡게 한다
+	 */
+	boolean adjust(SpellCoolDownKey spellCoolDownKey, long remainingMillis);
+
+}
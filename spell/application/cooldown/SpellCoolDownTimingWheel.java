@@ -0,0 +1,258 @@
+package lolpago.spell.application.cooldown;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스펠 쿨타임 만료를 예약하는 해시 타이밍 휠
+ * 하나의 틱 스레드가 휠을 돌며 만료된 쿨타임 키의 콜백을 실행
+ * 예약/취소는 큐에 넣기만 하므로 O(1), 버킷은 이중 연결 리스트로 관리
+ */
+@Slf4j
+@Component
+public class SpellCoolDownTimingWheel {
+	// 틱 간격 (알림 정밀도)
+	private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+	// 4096 틱 = 약 409초, 가장 긴 쿨타임(순간이동 6분)도 한 바퀴 안에 들어온다
+	private static final int WHEEL_SIZE = 4096;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	// 한 틱에 버킷으로 옮길 최대 예약 수 (틱 지연 방지)
+	private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+	private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+	private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+	// 쿨타임 키별 최신 예약, 같은 키를 다시 예약하면 이전 예약은 취소
+	private final Map<String, Timeout> timeouts = new ConcurrentHashMap<>();
+	private final long startTime = System.nanoTime();
+	private final Thread worker = new Thread(this::run, "spell-cooldown-wheel");
+
+	private volatile boolean running;
+	// 틱 스레드에서만 접근
+	private long tick;
+
+	public SpellCoolDownTimingWheel() {
+		for(int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new Bucket();
+		}
+		worker.setDaemon(true);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		worker.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		worker.interrupt();
+	}
+
+	/**
+	 * 쿨타임 키 만료 예약
+	 * delayMillis 후 틱 스레드에서 onExpired 콜백 실행
+	 */
+	public void schedule(String championSpellRedisKey, long delayMillis, Consumer<String> onExpired) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) - startTime;
+		Timeout timeout = new Timeout(championSpellRedisKey, deadline, onExpired);
+
+		Timeout previous = timeouts.put(championSpellRedisKey, timeout);
+		if(previous != null) {
+			previous.cancel();
+		}
+		pendingTimeouts.add(timeout);
+	}
+
+	/**
+	 * 쿨타임 키 만료 예약 취소
+	 */
+	public boolean cancel(String championSpellRedisKey) {
+		Timeout timeout = timeouts.remove(championSpellRedisKey);
+		return timeout != null && timeout.cancel();
+	}
+
+	// 예약된 쿨타임 수
+	public int size() {
+		return timeouts.size();
+	}
+
+	private void run() {
+		while(running) {
+			if(!waitForNextTick()) {
+				continue;
+			}
+
+			processCancelledTimeouts();
+			transferPendingTimeouts();
+			wheel[(int) (tick & WHEEL_MASK)].expireTimeouts();
+			tick++;
+		}
+	}
+
+	// 다음 틱 시각까지 대기, 종료 중이면 false
+	private boolean waitForNextTick() {
+		long deadline = TICK_NANOS * (tick + 1);
+
+		while(true) {
+			long currentTime = System.nanoTime() - startTime;
+			long sleepMillis = (deadline - currentTime + 999_999) / 1_000_000;
+			if(sleepMillis <= 0) {
+				return true;
+			}
+
+			try {
+				Thread.sleep(sleepMillis);
+			}
+			catch (InterruptedException ex) {
+				if(!running) {
+					return false;
+				}
+			}
+		}
+	}
+
+	// 대기 큐의 예약을 데드라인에 맞는 버킷으로 이동
+	private void transferPendingTimeouts() {
+		for(int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+			Timeout timeout = pendingTimeouts.poll();
+			if(timeout == null) {
+				return;
+			}
+			if(timeout.state.get() != Timeout.ST_INIT) {
+				continue;
+			}
+
+			long calculated = timeout.deadline / TICK_NANOS;
+			timeout.remainingRounds = (calculated - tick) / WHEEL_SIZE;
+			// 이미 지난 데드라인은 현재 틱 버킷에 배치
+			long ticks = Math.max(calculated, tick);
+			wheel[(int) (ticks & WHEEL_MASK)].add(timeout);
+		}
+	}
+
+	// 취소된 예약을 버킷에서 제거
+	private void processCancelledTimeouts() {
+		Timeout timeout;
+		while((timeout = cancelledTimeouts.poll()) != null) {
+			if(timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+
+	private final class Timeout {
+		private static final int ST_INIT = 0;
+		private static final int ST_CANCELLED = 1;
+		private static final int ST_EXPIRED = 2;
+
+		private final String championSpellRedisKey;
+		private final long deadline;
+		private final Consumer<String> onExpired;
+		private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+		// 이하 틱 스레드에서만 접근
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+
+		private Timeout(String championSpellRedisKey, long deadline, Consumer<String> onExpired) {
+			this.championSpellRedisKey = championSpellRedisKey;
+			this.deadline = deadline;
+			this.onExpired = onExpired;
+		}
+
+		private boolean cancel() {
+			if(!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+				return false;
+			}
+			cancelledTimeouts.add(this);
+			return true;
+		}
+
+		private void expire() {
+			if(!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+				return;
+			}
+			timeouts.remove(championSpellRedisKey, this);
+
+			try {
+				onExpired.accept(championSpellRedisKey);
+			}
+			catch (RuntimeException ex) {
+				log.warn("쿨타임 만료 콜백 실패 key={}", championSpellRedisKey, ex);
+			}
+		}
+	}
+
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		private void add(Timeout timeout) {
+			timeout.bucket = this;
+			if(head == null) {
+				head = tail = timeout;
+			}
+			else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		// 이번 바퀴에 도래한 예약은 만료 처리, 나머지는 남은 바퀴 수 감소
+		private void expireTimeouts() {
+			Timeout timeout = head;
+			while(timeout != null) {
+				Timeout next = timeout.next;
+				if(timeout.remainingRounds <= 0) {
+					remove(timeout);
+					timeout.expire();
+				}
+				else if(timeout.state.get() == Timeout.ST_CANCELLED) {
+					remove(timeout);
+				}
+				else {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+		}
+
+		private void remove(Timeout timeout) {
+			if(timeout.bucket != this) {
+				return;
+			}
+			if(timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			}
+			if(timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			}
+			if(timeout == head) {
+				head = timeout.next;
+			}
+			if(timeout == tail) {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+	}
+
+}
@@ -0,0 +1,109 @@
+package lolpago.spell.application.cooldown;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿨타임 키별로 만료를 기다리는 대기자를 보관하는 레지스트리
+ * 같은 키의 대기자들은 하나의 감시(Watch)를 공유하고, 키가 만료되거나 취소되면 그 결과로 함께 완료
+ */
+@Component
+public class SpellCoolDownWaiterRegistry {
+
+	private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+
+	/**
+	 * 쿨타임 키 만료 대기자 등록
+	 * 해당 키를 처음 감시하는 대기자만 keyExists 로 키 존재 여부를 확인하고, 나머지는 그 감시에 합류
+	 * 각 대기자는 완료(만료, 타임아웃, 취소)되면 감시에서 자동으로 빠진다
+	 */
+	public CompletableFuture<SpellCoolDownOutcome> register(String championSpellRedisKey,
+		Function<String, CompletionStage<Boolean>> keyExists) {
+		CompletableFuture<SpellCoolDownOutcome> waiter = new CompletableFuture<>();
+		boolean[] created = new boolean[1];
+
+		Watch watch = watches.compute(championSpellRedisKey, (key, current) -> {
+			Watch registered = current;
+			if(registered == null) {
+				registered = new Watch();
+				created[0] = true;
+			}
+			registered.waiters.add(waiter);
+			return registered;
+		});
+		waiter.whenComplete((ignored, ex) -> leave(championSpellRedisKey, watch, waiter));
+
+		// 새 감시를 만든 대기자만 Redis 를 한 번 확인, 이미 키가 없으면 감시 전체를 완료
+		if(created[0]) {
+			CompletionStage<Boolean> existsCheck;
+			try {
+				existsCheck = keyExists.apply(championSpellRedisKey);
+			}
+			catch(RuntimeException ex) {
+				// 확인 호출 자체가 동기적으로 실패해도 감시가 남지 않도록 대기자를 모두 실패 처리
+				fail(championSpellRedisKey, watch, ex);
+				return waiter;
+			}
+			existsCheck.whenComplete((exists, ex) -> {
+				if(ex != null) {
+					fail(championSpellRedisKey, watch, ex);
+				}
+				else if(!Boolean.TRUE.equals(exists)) {
+					complete(championSpellRedisKey);
+				}
+			});
+		}
+
+		return waiter;
+	}
+
+	/**
+	 * 쿨타임 키 만료 시 해당 키의 감시를 공유하는 대기자를 모두 완료
+	 */
+	public void complete(String championSpellRedisKey) {
+		release(championSpellRedisKey, SpellCoolDownOutcome.EXPIRED);
+	}
+
+	/**
+	 * 쿨타임 키가 취소되면 해당 키의 감시를 공유하는 대기자를 모두 바로 완료
+	 */
+	public void cancel(String championSpellRedisKey) {
+		release(championSpellRedisKey, SpellCoolDownOutcome.CANCELLED);
+	}
+
+	private void release(String championSpellRedisKey, SpellCoolDownOutcome outcome) {
+		Watch watch = watches.remove(championSpellRedisKey);
+		if(watch != null) {
+			watch.waiters.forEach(waiter -> waiter.complete(outcome));
+		}
+	}
+
+	// 키 존재 확인이 실패하면 해당 감시의 대기자를 모두 실패 처리
+	private void fail(String championSpellRedisKey, Watch watch, Throwable ex) {
+		if(watches.remove(championSpellRedisKey, watch)) {
+			watch.waiters.forEach(waiter -> waiter.completeExceptionally(ex));
+		}
+	}
+
+	// 완료된 대기자를 감시에서 제거, 마지막 대기자면 감시도 제거
+	private void leave(String championSpellRedisKey, Watch watch, CompletableFuture<SpellCoolDownOutcome> waiter) {
+		watches.computeIfPresent(championSpellRedisKey, (key, current) -> {
+			if(current != watch) {
+				return current;
+			}
+			current.waiters.remove(waiter);
+			return current.waiters.isEmpty() ? null : current;
+		});
+	}
+
+	private static final class Watch {
+		private final Set<CompletableFuture<SpellCoolDownOutcome>> waiters = ConcurrentHashMap.newKeySet();
+	}
+
+}
@@ -0,0 +1,12 @@
+package lolpago.spell.application.event;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+
+/**
+ * 등록된 스펠 쿨타임의 남은 시간이 조정되었을 때 발행되는 이벤트
+ */
+public record SpellCoolDownAdjustedEvent(
+	SpellCoolDownKey spellCoolDownKey,
+	long remainingMillis
+) {
+}
@@ -0,0 +1,11 @@
+package lolpago.spell.application.event;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+
+/**
+ * 잘못 등록된 스펠 쿨타임이 취소되었을 때 발행되는 이벤트
+ */
+public record SpellCoolDownCancelledEvent(
+	SpellCoolDownKey spellCoolDownKey
+) {
+}
@@ -0,0 +1,12 @@
+package lolpago.spell.application.event;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+
+/**
+ * 스펠 쿨타임이 끝났을 때 발행되는 이벤트
+ * 타이밍 휠과 Redis 키 만료 이벤트가 모두 발행할 수 있으므로 같은 키에 대해 중복될 수 있다
+ */
+public record SpellCoolDownExpiredEvent(
+	SpellCoolDownKey spellCoolDownKey
+) {
+}
@@ -0,0 +1,13 @@
+package lolpago.spell.application.event;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+
+/**
+ * 스펠 쿨타임이 Redis 에 등록되었을 때 발행되는 이벤트
+ */
+public record SpellCoolDownRegisteredEvent(
+	SpellCoolDownKey spellCoolDownKey,
+	long coolTimeMillis,
+	String spellCheckMessage
+) {
+}
@@ -0,0 +1,11 @@
+package lolpago.spell.application.result;
+
+public record SpellAlertResult(
+	String alertId,
+	Long summonerId,
+	String championName,
+	String spellName,
+	String spellCoolDownMessage,
+	long expiredAtMillis
+) {
+}
@@ -0,0 +1,9 @@
+package lolpago.spell.application.result;
+
+public record SpellCoolDownRemainingResult(
+	Long summonerId,
+	String championName,
+	String spellName,
+	long remainingMillis
+) {
+}
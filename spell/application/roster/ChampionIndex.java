@@ -0,0 +1,164 @@
+package lolpago.spell.application.roster;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lolpago.common.exception.type.NotFoundException;
+import lolpago.staticdata.domain.Champion;
+import lolpago.staticdata.domain.repository.ChampionRepository;
+
+/**
+ * 기동 시 한 번 로딩하는 불변 챔피언 인덱스
+ * 챔피언 ID 로 바로 찾는 배열과 한글 이름 -> ID 역방향 맵을 하나의 스냅샷으로 보관하고,
+ * 정적 데이터가 다시 적재되면 refresh() 로 스냅샷을 통째로 교체 (조회는 락 없이 volatile 읽기 한 번)
+ * 인덱스에 없는 챔피언 ID 를 만나면(패치로 추가된 챔피언) 전용 스레드에서 다시 읽되, 최소 간격 안에서는 다시 읽지 않아
+ * 없는 ID 가 반복되어도 매번 저장소를 조회하지 않는다
+ */
+@Component
+public class ChampionIndex {
+
+	private final ChampionRepository championRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	// 없는 ID 로 인한 재적재 최소 간격
+	private final long refreshIntervalNanos;
+	// 저장소 조회를 HTTP 응답 스레드에서 하지 않도록 재적재는 전용 스레드에서 수행
+	private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "spell-champion-index-refresh");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicLong lastRefreshNanos = new AtomicLong();
+
+	private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+	public ChampionIndex(ChampionRepository championRepository, PlatformTransactionManager transactionManager,
+		@Value("${spell.champion-index.refresh-interval-seconds:60}") long refreshIntervalSeconds
+	) {
+		this.championRepository = championRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.refreshIntervalNanos = TimeUnit.SECONDS.toNanos(refreshIntervalSeconds);
+	}
+
+	/**
+	 * 챔피언 정적 데이터를 다시 읽어 스냅샷 교체
+	 */
+	@PostConstruct
+	public void refresh() {
+		snapshot = readOnlyTransaction.execute(status -> Snapshot.of(championRepository.findAll()));
+		lastRefreshNanos.set(System.nanoTime());
+	}
+
+	/**
+	 * 모든 챔피언 ID 가 인덱스에 있으면 바로 완료되고, 없는 ID 가 있으면 전용 스레드에서 다시 읽은 뒤 완료
+	 * 최근에 다시 읽었다면 저장소를 조회하지 않고 바로 완료 (없는 ID 는 getKrName 에서 NotFoundException)
+	 */
+	public CompletableFuture<Void> ensureLoaded(long[] championIds) {
+		Snapshot current = snapshot;
+		for(long championId : championIds) {
+			if(current.krNameOf(championId) == null) {
+				return refreshIfStale();
+			}
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		refreshExecutor.shutdownNow();
+	}
+
+	public Snapshot snapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * 챔피언 ID 로 한글 이름 조회, 저장소는 조회하지 않는다 (새 챔피언은 ensureLoaded 로 먼저 적재)
+	 */
+	public String getKrName(long championId) {
+		String krName = snapshot.krNameOf(championId);
+		if(krName == null) {
+			throw new NotFoundException(CHAMPION_NAME_NOT_FOUND_MESSAGE);
+		}
+		return krName;
+	}
+
+	/**
+	 * 한글 이름으로 챔피언 ID 조회
+	 */
+	public Optional<Integer> findId(String krName) {
+		return Optional.ofNullable(snapshot.idByKrName.get(krName));
+	}
+
+	// 마지막 적재 후 최소 간격이 지났을 때만 한 번 다시 읽음 (동시에 여러 요청이 와도 한 요청만 적재)
+	private CompletableFuture<Void> refreshIfStale() {
+		long last = lastRefreshNanos.get();
+		long now = System.nanoTime();
+		if(now - last < refreshIntervalNanos || !lastRefreshNanos.compareAndSet(last, now)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return CompletableFuture.runAsync(this::refresh, refreshExecutor);
+	}
+
+	/**
+	 * 특정 시점의 챔피언 인덱스, 생성 후 변경되지 않는다
+	 */
+	public static final class Snapshot {
+		// 챔피언 ID 를 인덱스로 하는 한글 이름 배열 (없는 ID 는 null)
+		private final String[] krNamesById;
+		private final Map<String, Integer> idByKrName;
+		private final List<String> krNames;
+
+		private Snapshot(String[] krNamesById, Map<String, Integer> idByKrName, List<String> krNames) {
+			this.krNamesById = krNamesById;
+			this.idByKrName = idByKrName;
+			this.krNames = krNames;
+		}
+
+		private static Snapshot of(List<Champion> champions) {
+			int maxId = champions.stream()
+				.mapToInt(Champion::getId)
+				.max()
+				.orElse(-1);
+
+			String[] krNamesById = new String[maxId + 1];
+			Map<String, Integer> idByKrName = new HashMap<>();
+			for(Champion champion : champions) {
+				int championId = champion.getId();
+				krNamesById[championId] = champion.getKrName();
+				idByKrName.put(champion.getKrName(), championId);
+			}
+
+			return new Snapshot(krNamesById, Map.copyOf(idByKrName), List.copyOf(idByKrName.keySet()));
+		}
+
+		public String krNameOf(long championId) {
+			if(championId < 0 || championId >= krNamesById.length) {
+				return null;
+			}
+			return krNamesById[(int) championId];
+		}
+
+		// 전체 챔피언 한글 이름
+		public List<String> krNames() {
+			return krNames;
+		}
+	}
+
+}
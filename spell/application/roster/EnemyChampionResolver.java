@@ -0,0 +1,199 @@
+package lolpago.spell.application.roster;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lolpago.common.exception.type.NotFoundException;
+import lolpago.region.Region;
+import lolpago.spell.application.cache.SpellLocalCache;
+import lolpago.spell.infrastructure.riot.AsyncRiotSpectatorClient;
+
+/**
+ * 현재 게임 정보에서 소환사의 상대 팀 챔피언 한글 이름 목록을 구하는 컴포넌트
+ * 한 게임 동안 팀 구성은 바뀌지 않으므로 게임 단위 세션으로 캐시하고,
+ * 한 번의 조회로 게임 참가자 10명 모두의 puuid 를 세션에 연결해 같은 게임의 다른 사용자도 Riot 호출 없이 처리
+ * Riot 호출은 비동기로 수행하므로 호출자는 응답을 기다리는 동안 다른 작업을 할 수 있다
+ * 같은 소환사의 연속 요청("제드 점멸", "아리 점화")이 동시에 들어와도 Riot 호출은 한 번만 한다
+ */
+@Component
+public class EnemyChampionResolver {
+	// 캐시된 게임 정보를 다시 조회하기 전 최소 간격 (연속된 강제 갱신 방지)
+	private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+	// 한 게임의 참가자 수
+	private static final int PARTICIPANTS_PER_GAME = 10;
+
+	private final AsyncRiotSpectatorClient asyncRiotSpectatorClient;
+	private final ChampionIndex championIndex;
+	// 게임 ID + 지역 -> 게임 세션
+	private final SpellLocalCache<SpectatorGameSessionKey, SpectatorGameSession> sessionCache;
+	// 참가자 puuid + 지역 -> 게임 세션 키
+	private final SpellLocalCache<SpectatorGameKey, SpectatorGameSessionKey> participantIndex;
+	// 진행 중인 Riot 조회, 같은 puuid + 지역의 동시 요청은 하나의 조회 결과를 공유 (single-flight)
+	private final Map<SpectatorGameKey, CompletableFuture<SpectatorGameSession>> inFlightFetches = new ConcurrentHashMap<>();
+
+	public EnemyChampionResolver(AsyncRiotSpectatorClient asyncRiotSpectatorClient,
+		ChampionIndex championIndex,
+		MeterRegistry meterRegistry,
+		@Value("${spell.spectator-cache.maximum-size:10000}") int maximumSize,
+		@Value("${spell.spectator-cache.ttl-seconds:600}") long ttlSeconds
+	) {
+		this.asyncRiotSpectatorClient = asyncRiotSpectatorClient;
+		this.championIndex = championIndex;
+		this.sessionCache = new SpellLocalCache<SpectatorGameSessionKey, SpectatorGameSession>(
+			maximumSize, ttlSeconds, TimeUnit.SECONDS
+		).bindTo(meterRegistry, "spectatorGameSession");
+		this.participantIndex = new SpellLocalCache<SpectatorGameKey, SpectatorGameSessionKey>(
+			maximumSize * PARTICIPANTS_PER_GAME, ttlSeconds, TimeUnit.SECONDS
+		).bindTo(meterRegistry, "spectatorParticipant");
+	}
+
+	/**
+	 * 상대 챔피언들의 한글 이름 목록 반환
+	 * 같은 게임의 참가자 누구도 아직 조회하지 않았을 때만 Riot 현재 게임 정보 API 호출
+	 */
+	public CompletableFuture<List<String>> resolve(String puuid, Region region) {
+		SpectatorGameKey spectatorGameKey = new SpectatorGameKey(puuid, region);
+
+		return findSession(spectatorGameKey)
+			.map(CompletableFuture::completedFuture)
+			.orElseGet(() -> fetch(spectatorGameKey))
+			.thenApply(session -> enemyChampionsOf(session, puuid));
+	}
+
+	/**
+	 * 캐시된 게임이 끝나고 새 게임이 시작되었을 수 있을 때 현재 게임 정보를 다시 조회
+	 * 최근에 조회한 정보라면 캐시를 그대로 사용
+	 */
+	public CompletableFuture<List<String>> refresh(String puuid, Region region) {
+		SpectatorGameKey spectatorGameKey = new SpectatorGameKey(puuid, region);
+
+		return findSession(spectatorGameKey)
+			.filter(session -> System.nanoTime() - session.fetchedAtNanos() < REFRESH_INTERVAL_NANOS)
+			.map(CompletableFuture::completedFuture)
+			.orElseGet(() -> fetch(spectatorGameKey))
+			.thenApply(session -> enemyChampionsOf(session, puuid));
+	}
+
+	// 소환사의 현재 게임 세션이 캐시되어 있는지 확인
+	public boolean isCached(String puuid, Region region) {
+		return findSession(new SpectatorGameKey(puuid, region)).isPresent();
+	}
+
+	private List<String> enemyChampionsOf(SpectatorGameSession session, String puuid) {
+		return session.enemyChampionsOf(puuid)
+			.orElseThrow(() -> new NotFoundException(MY_TEAM_ID_NOT_FOUND_MESSAGE));
+	}
+
+	private Optional<SpectatorGameSession> findSession(SpectatorGameKey spectatorGameKey) {
+		return participantIndex.get(spectatorGameKey)
+			.flatMap(sessionCache::get);
+	}
+
+	// 같은 puuid + 지역의 조회가 진행 중이면 그 결과를 함께 기다리고, 없을 때만 새로 조회
+	private CompletableFuture<SpectatorGameSession> fetch(SpectatorGameKey spectatorGameKey) {
+		CompletableFuture<SpectatorGameSession> created = new CompletableFuture<>();
+		CompletableFuture<SpectatorGameSession> inFlight = inFlightFetches.putIfAbsent(spectatorGameKey, created);
+		if(inFlight != null) {
+			return inFlight;
+		}
+
+		CompletableFuture<SpectatorGameSession> upstream;
+		try {
+			upstream = fetchFromRiot(spectatorGameKey);
+		}
+		catch (RuntimeException ex) {
+			upstream = CompletableFuture.failedFuture(ex);
+		}
+
+		upstream.whenComplete((session, ex) -> {
+			// 결과를 알리기 전에 제거해야 이후 요청이 끝난 조회에 합류하지 않는다
+			inFlightFetches.remove(spectatorGameKey, created);
+			if(ex != null) {
+				created.completeExceptionally(unwrap(ex));
+			}
+			else {
+				created.complete(session);
+			}
+		});
+		return created;
+	}
+
+	// Riot 현재 게임 정보 API 비동기 호출 후 세션 캐시, 게임이 없으면(404) 캐시 무효화
+	// 요청 한도 초과, 인증 실패, 5xx, 타임아웃은 게임 종료가 아니므로 캐시를 유지
+	private CompletableFuture<SpectatorGameSession> fetchFromRiot(SpectatorGameKey spectatorGameKey) {
+		return asyncRiotSpectatorClient.getSpectatorRoster(spectatorGameKey.puuid(), spectatorGameKey.region())
+			.whenComplete((roster, ex) -> {
+				if(ex != null && unwrap(ex) instanceof NotFoundException) {
+					invalidate(spectatorGameKey);
+				}
+			})
+			.thenCompose(roster -> championIndex.ensureLoaded(roster.championIds())
+				.thenApply(ignored -> cache(toSession(roster, spectatorGameKey.region()))));
+	}
+
+	private Throwable unwrap(Throwable ex) {
+		return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+	}
+
+	// 참가자 전원을 새 세션에 연결 (다른 gameId 로 연결되어 있던 참가자는 교체)
+	private SpectatorGameSession cache(SpectatorGameSession session) {
+		sessionCache.put(session.sessionKey(), session);
+		session.teamIdByPuuid().keySet().forEach(puuid ->
+			participantIndex.put(new SpectatorGameKey(puuid, session.sessionKey().region()), session.sessionKey())
+		);
+		return session;
+	}
+
+	// 게임이 끝난 경우 같은 게임의 참가자 연결과 세션을 함께 제거
+	private void invalidate(SpectatorGameKey spectatorGameKey) {
+		participantIndex.get(spectatorGameKey).ifPresent(sessionKey -> {
+			sessionCache.get(sessionKey).ifPresent(session -> session.teamIdByPuuid().keySet().forEach(puuid ->
+				participantIndex.invalidate(new SpectatorGameKey(puuid, sessionKey.region()))
+			));
+			sessionCache.invalidate(sessionKey);
+		});
+		participantIndex.invalidate(spectatorGameKey);
+	}
+
+	// 현재 게임 로스터로 팀별 상대 챔피언 목록을 미리 계산, 챔피언 이름은 메모리 인덱스에서만 찾는다
+	private SpectatorGameSession toSession(SpectatorRoster roster, Region region) {
+		Map<String, Long> teamIdByPuuid = new HashMap<>();
+		Map<Long, List<String>> championsByTeamId = new HashMap<>();
+
+		for(int i = 0; i < roster.size(); i++) {
+			if(roster.puuids()[i] != null) {
+				teamIdByPuuid.put(roster.puuids()[i], roster.teamIds()[i]);
+			}
+			String krName = championIndex.getKrName(roster.championIds()[i]);
+			championsByTeamId.computeIfAbsent(roster.teamIds()[i], teamId -> new ArrayList<>()).add(krName);
+		}
+
+		// 각 팀 입장에서 상대 팀 챔피언 목록
+		Map<Long, List<String>> enemyChampionsByTeamId = new HashMap<>();
+		championsByTeamId.keySet().forEach(teamId -> enemyChampionsByTeamId.put(teamId,
+			championsByTeamId.entrySet().stream()
+				.filter(entry -> !entry.getKey().equals(teamId))
+				.flatMap(entry -> entry.getValue().stream())
+				.toList()
+		));
+
+		return new SpectatorGameSession(
+			new SpectatorGameSessionKey(roster.gameId(), region),
+			Map.copyOf(teamIdByPuuid), Map.copyOf(enemyChampionsByTeamId), System.nanoTime()
+		);
+	}
+
+}
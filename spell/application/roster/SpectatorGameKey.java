@@ -0,0 +1,12 @@
+package lolpago.spell.application.roster;
+
+import lolpago.region.Region;
+
+/**
+ * 현재 게임 정보 캐시 키 (소환사 puuid + 지역)
+ */
+public record SpectatorGameKey(
+	String puuid,
+	Region region
+) {
+}
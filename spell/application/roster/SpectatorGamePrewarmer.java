@@ -0,0 +1,83 @@
+package lolpago.spell.application.roster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lolpago.region.Region;
+import lolpago.spell.application.cache.SpellLocalCache;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 음성 세션이 시작될 때 현재 게임 정보를 미리 조회해 캐시하는 컴포넌트
+ * 첫 스펠 체크가 Riot 조회를 기다리지 않도록 하고,
+ * 미리 조회한 소환사의 첫 스펠 체크가 캐시를 찾았는지 spell.session.first_check (cache=warm/cold) 로 집계
+ */
+@Slf4j
+@Component
+public class SpectatorGamePrewarmer {
+	private static final String FIRST_CHECK_METRIC = "spell.session.first_check";
+
+	private final SummonerPuuidCache summonerPuuidCache;
+	private final EnemyChampionResolver enemyChampionResolver;
+	// 미리 조회를 요청한 뒤 아직 첫 스펠 체크가 오지 않은 참가자
+	private final SpellLocalCache<SpectatorGameKey, Boolean> awaitingFirstCheck;
+	private final Counter warmFirstChecks;
+	private final Counter coldFirstChecks;
+	private final Counter prewarmFailures;
+
+	public SpectatorGamePrewarmer(SummonerPuuidCache summonerPuuidCache,
+		EnemyChampionResolver enemyChampionResolver,
+		MeterRegistry meterRegistry,
+		@Value("${spell.session-prewarm.maximum-size:10000}") int maximumSize,
+		@Value("${spell.session-prewarm.ttl-seconds:1800}") long ttlSeconds
+	) {
+		this.summonerPuuidCache = summonerPuuidCache;
+		this.enemyChampionResolver = enemyChampionResolver;
+		this.awaitingFirstCheck = new SpellLocalCache<>(maximumSize, ttlSeconds, TimeUnit.SECONDS);
+		this.warmFirstChecks = Counter.builder(FIRST_CHECK_METRIC).tag("cache", "warm").register(meterRegistry);
+		this.coldFirstChecks = Counter.builder(FIRST_CHECK_METRIC).tag("cache", "cold").register(meterRegistry);
+		this.prewarmFailures = Counter.builder("spell.session.prewarm.failures").register(meterRegistry);
+	}
+
+	/**
+	 * 소환사의 현재 게임 정보를 비동기로 조회해 캐시
+	 * 아직 게임이 시작되지 않았거나 조회에 실패해도 예외 없이 완료 (첫 스펠 체크에서 다시 조회)
+	 */
+	public CompletableFuture<Void> prewarm(Long summonerId, Region region) {
+		String puuid = summonerPuuidCache.getPuuid(summonerId);
+		awaitingFirstCheck.put(new SpectatorGameKey(puuid, region), Boolean.TRUE);
+
+		return enemyChampionResolver.resolve(puuid, region)
+			.handle((enemyChampions, ex) -> {
+				if(ex != null) {
+					prewarmFailures.increment();
+					log.debug("게임 정보 미리 조회 실패 summonerId={} region={}", summonerId, region, ex);
+				}
+				return null;
+			});
+	}
+
+	/**
+	 * 미리 조회를 요청한 소환사의 첫 스펠 체크라면 게임 정보 캐시 적중 여부 집계
+	 */
+	public void recordFirstCheck(String puuid, Region region) {
+		SpectatorGameKey spectatorGameKey = new SpectatorGameKey(puuid, region);
+		if(awaitingFirstCheck.get(spectatorGameKey).isEmpty()) {
+			return;
+		}
+		awaitingFirstCheck.invalidate(spectatorGameKey);
+
+		if(enemyChampionResolver.isCached(puuid, region)) {
+			warmFirstChecks.increment();
+		}
+		else {
+			coldFirstChecks.increment();
+		}
+	}
+
+}
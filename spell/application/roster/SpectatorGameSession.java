@@ -0,0 +1,22 @@
+package lolpago.spell.application.roster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 하나의 게임에 대한 팀 구성 정보
+ * 참가자별 팀 ID 와 팀별 상대 챔피언 한글 이름 목록을 미리 계산해 둔다
+ */
+public record SpectatorGameSession(
+	SpectatorGameSessionKey sessionKey,
+	Map<String, Long> teamIdByPuuid,
+	Map<Long, List<String>> enemyChampionsByTeamId,
+	long fetchedAtNanos
+) {
+	// 참가자의 상대 팀 챔피언 한글 이름 목록, 이 게임의 참가자가 아니면 빈 값
+	public Optional<List<String>> enemyChampionsOf(String puuid) {
+		return Optional.ofNullable(teamIdByPuuid.get(puuid))
+			.map(enemyChampionsByTeamId::get);
+	}
+}
@@ -0,0 +1,12 @@
+package lolpago.spell.application.roster;
+
+import lolpago.region.Region;
+
+/**
+ * 게임 세션 캐시 키 (게임 ID + 지역)
+ */
+public record SpectatorGameSessionKey(
+	Long gameId,
+	Region region
+) {
+}
@@ -0,0 +1,20 @@
+package lolpago.spell.application.roster;
+
+/**
+ * 스펠 체크에 필요한 현재 게임 참가자 정보만 담은 로스터
+ * 참가자 i 의 정보는 각 배열의 i 번째 값 (박싱 없이 기본형 배열로 보관)
+ * 팀 ID 가 없는 참가자는 담지 않는다
+ */
+public record SpectatorRoster(
+	long gameId,
+	String[] puuids,
+	long[] teamIds,
+	long[] championIds,
+	long[] spell1Ids,
+	long[] spell2Ids
+) {
+	// 참가자 수
+	public int size() {
+		return puuids.length;
+	}
+}
@@ -0,0 +1,58 @@
+package lolpago.spell.application.roster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lolpago.spell.application.cache.SpellLocalCache;
+import lolpago.summoner.domain.SummonerRepository;
+
+/**
+ * 스펠 경로에서 사용하는 소환사 ID -> puuid 캐시
+ * 캐시에 없을 때만 SummonerRepository 를 조회하고, 소환사 정보 변경이 커밋되면 SummonerChangeListener 가 모든 노드에서 무효화
+ * 적중/실패, 제거 수는 cache.* 메트릭 (cache=summonerPuuid) 으로 노출
+ */
+@Component
+public class SummonerPuuidCache {
+	private static final String CACHE_NAME = "summonerPuuid";
+
+	private final SummonerRepository summonerRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final SpellLocalCache<Long, String> puuidCache;
+
+	public SummonerPuuidCache(SummonerRepository summonerRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${spell.summoner-cache.maximum-size:50000}") int maximumSize,
+		@Value("${spell.summoner-cache.ttl-seconds:3600}") long ttlSeconds
+	) {
+		this.summonerRepository = summonerRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.puuidCache = new SpellLocalCache<Long, String>(maximumSize, ttlSeconds, TimeUnit.SECONDS)
+			.bindTo(meterRegistry, CACHE_NAME);
+	}
+
+	/**
+	 * 소환사 puuid 조회, 캐시에 없으면 짧은 읽기 전용 트랜잭션으로 저장소에서 읽어 캐시
+	 */
+	public String getPuuid(Long summonerId) {
+		return puuidCache.get(summonerId).orElseGet(() -> {
+			String puuid = readOnlyTransaction.execute(status -> summonerRepository.getById(summonerId).getPuuid());
+			puuidCache.put(summonerId, puuid);
+			return puuid;
+		});
+	}
+
+	/**
+	 * 소환사 정보가 바뀌거나 삭제되었을 때 캐시 무효화
+	 */
+	public void evict(Long summonerId) {
+		puuidCache.invalidate(summonerId);
+	}
+
+}
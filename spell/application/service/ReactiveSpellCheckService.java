@@ -0,0 +1,287 @@
+package lolpago.spell.application.service;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import lolpago.common.exception.type.InternalServerErrorException;
+import lolpago.common.exception.type.NotFoundException;
+import lolpago.region.Region;
+import lolpago.spell.application.command.SpellAlertCommand;
+import lolpago.spell.application.command.SpellBatchCheckCommand;
+import lolpago.spell.application.command.SpellCheckCommand;
+import lolpago.spell.application.command.SpellCoolDownAdjustCommand;
+import lolpago.spell.application.command.SpellCoolDownCommand;
+import lolpago.spell.application.command.SpellSessionCommand;
+import lolpago.spell.application.cooldown.ReactiveSpellCoolDownStore;
+import lolpago.spell.application.cooldown.SpellAlertStream;
+import lolpago.spell.application.cooldown.SpellCoolDownExpiryDispatcher;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lolpago.spell.application.cooldown.SpellCoolDownOutcome;
+import lolpago.spell.application.cooldown.SpellCoolDownWaiterRegistry;
+import lolpago.spell.application.result.SpellAlertResult;
+import lolpago.spell.application.result.SpellCheckResult;
+import lolpago.spell.application.result.SpellCoolDownRemainingResult;
+import lolpago.spell.application.result.SpellCoolDownResult;
+import lolpago.spell.application.roster.EnemyChampionResolver;
+import lolpago.spell.application.roster.SpectatorGamePrewarmer;
+import lolpago.spell.application.roster.SummonerPuuidCache;
+import lolpago.spell.application.text.AhoCorasickAutomaton;
+import lolpago.spell.application.text.SpellTextExtractor;
+import lolpago.spell.application.text.SpellTextPrefilter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 스펠 체크 및 쿨타임 확인 로직의 리액티브 버전 (reactive 프로필)
+ * Redis 는 Lettuce 리액티브 API 기반 쿨타임 저장소, Riot API 는 비동기 클라이언트를 사용하고, 블로킹 조회(JPA)는 boundedElastic 스케줄러로 분리
+ */
+@Service
+@Profile("reactive")
+public class ReactiveSpellCheckService {
+
+	private final SummonerPuuidCache summonerPuuidCache;
+	private final EnemyChampionResolver enemyChampionResolver;
+	private final SpectatorGamePrewarmer spectatorGamePrewarmer;
+	private final SpellTextExtractor spellTextExtractor;
+	private final SpellTextPrefilter spellTextPrefilter;
+	private final ReactiveSpellCoolDownStore spellCoolDownStore;
+	private final SpellCoolDownWaiterRegistry waiterRegistry;
+	private final SpellCoolDownExpiryDispatcher expiryDispatcher;
+	private final SpellAlertStream spellAlertStream;
+
+	public ReactiveSpellCheckService(SummonerPuuidCache summonerPuuidCache,
+		EnemyChampionResolver enemyChampionResolver,
+		SpectatorGamePrewarmer spectatorGamePrewarmer,
+		SpellTextExtractor spellTextExtractor,
+		SpellTextPrefilter spellTextPrefilter,
+		ReactiveSpellCoolDownStore spellCoolDownStore,
+		SpellCoolDownWaiterRegistry waiterRegistry,
+		SpellCoolDownExpiryDispatcher expiryDispatcher,
+		SpellAlertStream spellAlertStream
+	) {
+		this.summonerPuuidCache = summonerPuuidCache;
+		this.enemyChampionResolver = enemyChampionResolver;
+		this.spectatorGamePrewarmer = spectatorGamePrewarmer;
+		this.spellTextExtractor = spellTextExtractor;
+		this.spellTextPrefilter = spellTextPrefilter;
+		this.spellCoolDownStore = spellCoolDownStore;
+		this.waiterRegistry = waiterRegistry;
+		this.expiryDispatcher = expiryDispatcher;
+		this.spellAlertStream = spellAlertStream;
+	}
+
+	/**
+	 * 주어진 텍스트로부터 적 챔피언 이름과 스펠명을 추출
+	 * 해당 스펠의 쿨타임을 Redis 에 등록
+	 */
+	public Mono<SpellCheckResult> championSpellCheck(SpellCheckCommand command) {
+		// 텍스트만으로 걸러낼 수 있는 요청은 DB, Riot API 조회 전에 거절
+		return Mono.fromRunnable(() -> spellTextPrefilter.check(command.finalText()))
+			.then(blocking(() -> summonerPuuidCache.getPuuid(command.summonerId())))
+			.flatMap(puuid -> resolveChampionSpellKey(puuid, command)
+				.flatMap(championSpellKey -> register(championSpellKey)
+					.thenReturn(new SpellCheckResult(command.summonerId(), championSpellKey.championName(),
+						championSpellKey.spellName(), championSpellKey.registerMessage()))
+				)
+			);
+	}
+
+	/**
+	 * 여러 텍스트(또는 한 텍스트의 여러 언급)에서 모든 적 챔피언 + 스펠 쌍을 추출해 쿨타임 등록
+	 * 모든 쿨타임을 저장소에 한 번에 등록
+	 */
+	public Mono<List<SpellCheckResult>> championSpellBatchCheck(SpellBatchCheckCommand command) {
+		// 텍스트만으로 걸러낼 수 있는 요청은 DB, Riot API 조회 전에 거절
+		return Mono.fromRunnable(() -> spellTextPrefilter.check(String.join(" ", command.finalTexts())))
+			.then(blocking(() -> summonerPuuidCache.getPuuid(command.summonerId())))
+			.flatMap(puuid -> Mono.defer(() -> {
+				spectatorGamePrewarmer.recordFirstCheck(puuid, command.region());
+
+				CompletableFuture<List<String>> enemyChampionsFuture = enemyChampionResolver.resolve(puuid, command.region());
+				// Riot 응답을 기다리는 동안 텍스트별 챔피언/스펠 언급 분석
+				List<List<AhoCorasickAutomaton.Match>> mentionsPerText = command.finalTexts().stream()
+					.map(spellTextExtractor::scan)
+					.toList();
+
+				return enemyChampions(enemyChampionsFuture, puuid, command.region(), mentionsPerText)
+					.map(enemyChampions -> extractAll(command.summonerId(), mentionsPerText, enemyChampions));
+			}))
+			.flatMap(championSpellKeys -> registerAll(championSpellKeys)
+				.then(Mono.fromSupplier(() -> championSpellKeys.stream()
+					.map(championSpellKey -> new SpellCheckResult(command.summonerId(), championSpellKey.championName(),
+						championSpellKey.spellName(), championSpellKey.registerMessage()))
+					.toList()))
+			);
+	}
+
+	/**
+	 * 음성 세션 시작 시 소환사의 현재 게임 정보를 미리 조회해 캐시
+	 * puuid 조회만 boundedElastic 에서 수행하고, Riot 조회 결과는 기다리지 않는다
+	 */
+	public Mono<Void> prewarmSession(SpellSessionCommand command) {
+		return blocking(() -> spectatorGamePrewarmer.prewarm(command.summonerId(), command.region()))
+			.then();
+	}
+
+	/**
+	 * Redis 에 저장된 쿨타임 키가 만료될 때까지 최대 6분 동안 대기
+	 * 대기 중에는 어떤 스레드도 점유하지 않고, 만료 신호를 받으면 알림 메시지와 함께 완료
+	 * 대기 중에 쿨타임이 취소되면 취소 메시지와 함께 바로 완료
+	 */
+	public Mono<SpellCoolDownResult> championSpellCoolDown(SpellCoolDownCommand spellCoolDownCommand) {
+		SpellCoolDownKey spellCoolDownKey = SpellCoolDownKey.from(spellCoolDownCommand);
+		String championSpellRedisKey = spellCoolDownKey.toRedisKey();
+
+		return Mono.defer(() -> {
+			// 만료 이벤트를 놓치지 않도록 대기자를 먼저 등록한 뒤 키 존재 여부 확인
+			// 같은 키를 이미 기다리는 대기자가 있으면 그 감시에 합류하고 Redis 는 조회하지 않는다
+			CompletableFuture<SpellCoolDownOutcome> expired = waiterRegistry.register(championSpellRedisKey,
+				key -> spellCoolDownStore.exists(spellCoolDownKey).toFuture());
+
+			return Mono.fromFuture(expired)
+				.timeout(Duration.ofMillis(SpellCheckService.COOL_DOWN_TIMEOUT_MILLIS))
+				// 제한 시간 초과해도 키가 남아 있으면 실패 처리
+				.onErrorMap(TimeoutException.class, ex -> new InternalServerErrorException(SPELL_COOL_DOWN_MESSAGE))
+				.map(outcome -> new SpellCoolDownResult(spellCoolDownCommand.summonerId(),
+					SpellCheckService.coolDownMessage(spellCoolDownKey, outcome)))
+				// 타임아웃이나 구독 취소 시 대기자 정리
+				.doFinally(signal -> expired.cancel(false));
+		});
+	}
+
+	/**
+	 * 잘못 인식되어 등록된 쿨타임 취소, 만료 예약을 지우고 그 키의 대기자를 바로 완료
+	 */
+	public Mono<Void> cancelCoolDown(SpellCoolDownCommand command) {
+		SpellCoolDownKey spellCoolDownKey = SpellCoolDownKey.from(command);
+
+		return spellCoolDownStore.delete(spellCoolDownKey)
+			.doOnNext(deleted -> expiryDispatcher.cancel(spellCoolDownKey))
+			.then();
+	}
+
+	/**
+	 * "점멸 30초 남음" 같은 텍스트로 등록된 쿨타임의 남은 시간을 조정, 남은 시간이 0 이면 취소와 같다
+	 */
+	public Mono<SpellCoolDownRemainingResult> adjustCoolDown(SpellCoolDownAdjustCommand command) {
+		return spellCoolDownStore.findRemaining(command.summonerId())
+			.map(remainingMillisByKey -> spellTextExtractor.extractRegistered(
+				spellTextExtractor.scan(command.finalText()), remainingMillisByKey.keySet()))
+			.flatMap(spellCoolDownKey -> {
+				// 스펠의 원래 쿨타임보다 길게 늘리지 않는다
+				long remainingMillis = Math.min(command.remainingMillis(),
+					spellTextExtractor.getSpellCoolTime(spellCoolDownKey.spellName()));
+				SpellCoolDownRemainingResult result = new SpellCoolDownRemainingResult(spellCoolDownKey.summonerId(),
+					spellCoolDownKey.championName(), spellCoolDownKey.spellName(), Math.max(remainingMillis, 0L));
+
+				if(remainingMillis <= 0) {
+					return spellCoolDownStore.delete(spellCoolDownKey)
+						.doOnNext(deleted -> expiryDispatcher.cancel(spellCoolDownKey))
+						.thenReturn(result);
+				}
+				return spellCoolDownStore.adjust(spellCoolDownKey, remainingMillis)
+					.flatMap(adjusted -> {
+						// 조회 직후 쿨타임이 끝난 경우
+						if(!adjusted) {
+							return Mono.error(new NotFoundException(SPELL_COOL_DOWN_NOT_FOUND_MESSAGE));
+						}
+						expiryDispatcher.adjust(spellCoolDownKey, remainingMillis);
+						return Mono.just(result);
+					});
+			});
+	}
+
+	/**
+	 * 마지막으로 받은 알림 이후의 쿨타임 만료 알림 조회
+	 */
+	public Mono<List<SpellAlertResult>> findAlerts(SpellAlertCommand command) {
+		return blocking(() -> spellAlertStream.readAfter(
+			command.summonerId(), command.lastAlertId(), SpellCheckService.MAX_ALERTS_PER_READ));
+	}
+
+	/**
+	 * 소환사의 진행 중인 모든 스펠 쿨타임과 남은 시간 조회 (남은 시간이 짧은 순)
+	 */
+	public Mono<List<SpellCoolDownRemainingResult>> findCoolDowns(Long summonerId) {
+		return spellCoolDownStore.findRemaining(summonerId)
+			.map(SpellCheckService::toRemainingResults);
+	}
+
+	// 상대 챔피언 목록을 비동기로 조회하고 텍스트에서 챔피언 이름과 스펠명 추출
+	// 캐시된 상대 팀에 언급된 챔피언이 없으면 새 게임일 수 있으므로 다시 조회
+	private Mono<SpellCoolDownKey> resolveChampionSpellKey(String puuid, SpellCheckCommand command) {
+		return Mono.defer(() -> {
+			spectatorGamePrewarmer.recordFirstCheck(puuid, command.region());
+
+			CompletableFuture<List<String>> enemyChampionsFuture = enemyChampionResolver.resolve(puuid, command.region());
+			// Riot 응답을 기다리는 동안 텍스트의 챔피언/스펠 언급 분석
+			List<AhoCorasickAutomaton.Match> mentions = spellTextExtractor.scan(command.finalText());
+
+			return enemyChampions(enemyChampionsFuture, puuid, command.region(), List.of(mentions))
+				.map(enemyChampions -> spellTextExtractor.extract(command.summonerId(), mentions, enemyChampions));
+		});
+	}
+
+	// 상대 챔피언 목록을 기다리고, 캐시된 상대 팀에 언급된 챔피언이 없으면 새 게임일 수 있으므로 다시 조회
+	private Mono<List<String>> enemyChampions(CompletableFuture<List<String>> enemyChampionsFuture, String puuid,
+		Region region, List<List<AhoCorasickAutomaton.Match>> mentionsPerText) {
+		return Mono.fromFuture(enemyChampionsFuture)
+			.flatMap(enemyChampions -> mentionsPerText.stream()
+				.anyMatch(mentions -> spellTextExtractor.isChampion(mentions, enemyChampions))
+				? Mono.just(enemyChampions)
+				: Mono.fromFuture(enemyChampionResolver.refresh(puuid, region)));
+	}
+
+	// 텍스트별 챔피언 + 스펠 쌍을 모으고, 하나도 없으면 단건 요청과 같은 예외
+	private List<SpellCoolDownKey> extractAll(Long summonerId, List<List<AhoCorasickAutomaton.Match>> mentionsPerText,
+		List<String> enemyChampions) {
+		List<SpellCoolDownKey> championSpellKeys = mentionsPerText.stream()
+			.flatMap(mentions -> spellTextExtractor.extractAll(summonerId, mentions, enemyChampions).stream())
+			.distinct()
+			.toList();
+
+		if(championSpellKeys.isEmpty()) {
+			boolean championMentioned = mentionsPerText.stream()
+				.anyMatch(mentions -> spellTextExtractor.isChampion(mentions, enemyChampions));
+			throw new NotFoundException(championMentioned ? SPELL_NAME_NOT_FOUND_MESSAGE : CHAMPION_NAME_NOT_FOUND_MESSAGE);
+		}
+		return championSpellKeys;
+	}
+
+	// Redis 에 쿨타임 등록 후 타이밍 휠에도 예약
+	private Mono<Void> register(SpellCoolDownKey championSpellKey) {
+		long coolTime = spellTextExtractor.getSpellCoolTime(championSpellKey.spellName());
+
+		// 이미 등록된 같은 쿨타임이 있으면 그 남은 시간 기준
+		return spellCoolDownStore.save(championSpellKey, coolTime)
+			.doOnNext(remainingMillis -> expiryDispatcher.register(championSpellKey, remainingMillis))
+			.then();
+	}
+
+	// 모든 쿨타임을 한 번에 등록 후 타이밍 휠에도 예약
+	private Mono<Void> registerAll(List<SpellCoolDownKey> championSpellKeys) {
+		Map<SpellCoolDownKey, Long> coolTimeMillisByKey = new LinkedHashMap<>();
+		championSpellKeys.forEach(championSpellKey ->
+			coolTimeMillisByKey.put(championSpellKey, spellTextExtractor.getSpellCoolTime(championSpellKey.spellName())));
+
+		return spellCoolDownStore.saveAll(coolTimeMillisByKey)
+			.doOnNext(remainingMillisByKey -> remainingMillisByKey.forEach(expiryDispatcher::register))
+			.then();
+	}
+
+	// 블로킹 호출을 이벤트 루프 밖의 스레드에서 실행
+	private <T> Mono<T> blocking(Callable<T> callable) {
+		return Mono.fromCallable(callable).subscribeOn(Schedulers.boundedElastic());
+	}
+
+}
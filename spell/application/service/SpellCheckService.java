@@ -2,71 +2,84 @@ package lolpago.spell.application.service;
 
 import static lolpago.common.exception.ExceptionMessage.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import lolpago.client.riot.RiotClient;
 import lolpago.common.exception.type.InternalServerErrorException;
 import lolpago.common.exception.type.NotFoundException;
+import lolpago.region.Region;
+import lolpago.spell.application.command.SpellAlertCommand;
+import lolpago.spell.application.command.SpellBatchCheckCommand;
 import lolpago.spell.application.command.SpellCheckCommand;
+import lolpago.spell.application.command.SpellCoolDownAdjustCommand;
 import lolpago.spell.application.command.SpellCoolDownCommand;
-import lolpago.spell.application.response.SpectatorCurrentGameInfoApiResponse;
+import lolpago.spell.application.command.SpellSessionCommand;
+import lolpago.spell.application.cooldown.SpellAlertStream;
+import lolpago.spell.application.cooldown.SpellCoolDownExpiryDispatcher;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lolpago.spell.application.cooldown.SpellCoolDownOutcome;
+import lolpago.spell.application.cooldown.SpellCoolDownStore;
+import lolpago.spell.application.cooldown.SpellCoolDownWaiterRegistry;
+import lolpago.spell.application.result.SpellAlertResult;
 import lolpago.spell.application.result.SpellCheckResult;
+import lolpago.spell.application.result.SpellCoolDownRemainingResult;
 import lolpago.spell.application.result.SpellCoolDownResult;
-import lolpago.staticdata.domain.Champion;
-import lolpago.staticdata.domain.repository.ChampionRepository;
-import lolpago.summoner.domain.Summoner;
-import lolpago.summoner.domain.SummonerRepository;
+import lolpago.spell.application.roster.EnemyChampionResolver;
+import lolpago.spell.application.roster.SpectatorGamePrewarmer;
+import lolpago.spell.application.roster.SummonerPuuidCache;
+import lolpago.spell.application.text.AhoCorasickAutomaton;
+import lolpago.spell.application.text.SpellTextExtractor;
+import lolpago.spell.application.text.SpellTextPrefilter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 스펠 체크 및 쿨타임 확인 로직을 처리하는 서비스 클래스
+ * Riot API 호출과 쿨타임 대기 중에 DB 커넥션을 잡고 있지 않도록 클래스 단위 트랜잭션을 두지 않고,
+ * DB 조회는 캐시 미스 시 각 컴포넌트의 짧은 읽기 전용 트랜잭션에서만 수행
  */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 public class SpellCheckService {
-	// 스펠 이름과 각 스펠의 쿨타임을 매칭
-	private static final Map<String, Long> SPELL_COOL_TIME = Map.of(
-			"점멸", 300_000L, // 300_000L : 5분
-			"순간이동", 360_000L,
-			"점화", 180_000L,
-			"회복", 240_000L,
-			"탈진", 210_000L,
-			"정화", 210_000L,
-			"방어막", 180_000L,
-			"유체화", 210_000L,
-			"강타", 90_000L
-	);
-
-	// 스펠 목록
-	private static final List<String> spells = List.of(
-			"점멸", "순간이동", "점화", "회복", "탈진", "정화", "방어막", "유체화", "강타"
-	);
-
-	private final RiotClient riotClient;
-	private final SummonerRepository summonerRepository;
-	private final ChampionRepository championRepository;
-	private final StringRedisTemplate spellRedisTemplate;
-
-	public SpellCheckService(RiotClient riotClient,
-		SummonerRepository summonerRepository,
-		ChampionRepository championRepository,
-		@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate
+	// 쿨타임 만료 대기 최대 시간 (가장 긴 순간이동 쿨타임 6분)
+	public static final long COOL_DOWN_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(6);
+	// 알림 조회 한 번에 돌려주는 최대 개수
+	public static final int MAX_ALERTS_PER_READ = 100;
+
+	private final SummonerPuuidCache summonerPuuidCache;
+	private final EnemyChampionResolver enemyChampionResolver;
+	private final SpectatorGamePrewarmer spectatorGamePrewarmer;
+	private final SpellTextExtractor spellTextExtractor;
+	private final SpellTextPrefilter spellTextPrefilter;
+	private final SpellCoolDownStore spellCoolDownStore;
+	private final SpellCoolDownWaiterRegistry waiterRegistry;
+	private final SpellCoolDownExpiryDispatcher expiryDispatcher;
+	private final SpellAlertStream spellAlertStream;
+
+	public SpellCheckService(SummonerPuuidCache summonerPuuidCache,
+		EnemyChampionResolver enemyChampionResolver,
+		SpectatorGamePrewarmer spectatorGamePrewarmer,
+		SpellTextExtractor spellTextExtractor,
+		SpellTextPrefilter spellTextPrefilter,
+		SpellCoolDownStore spellCoolDownStore,
+		SpellCoolDownWaiterRegistry waiterRegistry,
+		SpellCoolDownExpiryDispatcher expiryDispatcher,
+		SpellAlertStream spellAlertStream
 	) {
-		this.riotClient = riotClient;
-		this.summonerRepository = summonerRepository;
-		this.championRepository = championRepository;
-		this.spellRedisTemplate = spellRedisTemplate;
+		this.summonerPuuidCache = summonerPuuidCache;
+		this.enemyChampionResolver = enemyChampionResolver;
+		this.spectatorGamePrewarmer = spectatorGamePrewarmer;
+		this.spellTextExtractor = spellTextExtractor;
+		this.spellTextPrefilter = spellTextPrefilter;
+		this.spellCoolDownStore = spellCoolDownStore;
+		this.waiterRegistry = waiterRegistry;
+		this.expiryDispatcher = expiryDispatcher;
+		this.spellAlertStream = spellAlertStream;
 	}
 
 	/**
@@ -74,136 +87,225 @@ public class SpellCheckService {
 	 * 해당 스펠의 쿨타임을 Redis 에 등록
 	 */
 	public SpellCheckResult championSpellCheck(SpellCheckCommand command) {
-		// 소환사 정보 조회
-		Summoner summoner = summonerRepository.getById(command.summonerId());
-
-		// 현재 게임 정보 Riot API 호출
-		ResponseEntity<SpectatorCurrentGameInfoApiResponse> spectatorCurrentGameInfoApiResponse =
-		riotClient.getSpectatorCurrentGameInfo(summoner.getPuuid(), command.region());
-		// API 실패 또는 응답 없음
-		if(!spectatorCurrentGameInfoApiResponse.getStatusCode().is2xxSuccessful() ||
-			Objects.isNull(spectatorCurrentGameInfoApiResponse.getBody())) {
-			throw new NotFoundException(SPECTATOR_CURRENT_GAME_INFO_NOT_FOUND_MESSAGE);
-		}
+		// 텍스트만으로 걸러낼 수 있는 요청은 DB, Riot API 조회 전에 거절
+		spellTextPrefilter.check(command.finalText());
 
-		SpectatorCurrentGameInfoApiResponse gameInfo = spectatorCurrentGameInfoApiResponse.getBody();
-
-		// 자신의 팀 ID 찾기 (ID를 통해 상대 팀의 ID 알 수 있다)
-		Long myTeamId = gameInfo.participants().stream()
-			.filter(p -> summoner.getPuuid().equals(p.puuid()))
-			.map(SpectatorCurrentGameInfoApiResponse.CurrentGameParticipant::teamId)
-				.filter(Objects::nonNull)
-			.findFirst()
-			.orElseThrow(() -> new NotFoundException(MY_TEAM_ID_NOT_FOUND_MESSAGE));
-
-		// 상대 챔피언들의 한글 이름 목록
-		List<String> enemyChampions = gameInfo.participants().stream()
-			.filter(p -> !p.teamId().equals(myTeamId))
-			.map(SpectatorCurrentGameInfoApiResponse.CurrentGameParticipant::championId)
-			.map(championId -> championRepository.getById(championId.intValue()))
-			.map(Champion::getKrName)
-			.toList();
+		// 소환사 puuid 조회 (캐시에 없을 때만 DB 조회)
+		String puuid = summonerPuuidCache.getPuuid(command.summonerId());
 
-		// finalText 에 적 챔피언 이름이 없으면 예외
-		if(!isChampion(command.finalText(), enemyChampions)) {
-			throw new NotFoundException(CHAMPION_NAME_NOT_FOUND_MESSAGE);
-		}
+		spectatorGamePrewarmer.recordFirstCheck(puuid, command.region());
 
-		// finalText 에 유효한 스펠 이름이 없으면 예외
-		if(!isSpell(command.finalText())) {
-			throw new NotFoundException(SPELL_NAME_NOT_FOUND_MESSAGE);
-		}
+		// 상대 챔피언들의 한글 이름 목록 (캐시에 없으면 Riot API 비동기 호출)
+		CompletableFuture<List<String>> enemyChampionsFuture = enemyChampionResolver.resolve(puuid, command.region());
+
+		// Riot 응답을 기다리는 동안 텍스트의 챔피언/스펠 언급 분석
+		List<AhoCorasickAutomaton.Match> mentions = spellTextExtractor.scan(command.finalText());
+
+		List<String> enemyChampions = enemyChampions(enemyChampionsFuture, puuid, command.region(), List.of(mentions));
 
 		// 텍스트에서 챔피언 이름과 스펠명 추출
-		Optional<String> championName = extractChampionName(command.finalText(), enemyChampions);
-		Optional<String> spellName = extractSpell(command.finalText());
+		SpellCoolDownKey championSpellKey = spellTextExtractor.extract(command.summonerId(), mentions, enemyChampions);
 
 		// Redis 에 쿨타임 등록
-		String championSpellRedisKey = command.summonerId().toString() + ":" + championName.get() + ":" + spellName.get();
-		String championSpellRedisValue = championName.get() + ":" + spellName.get();
-		spellRedisTemplate.opsForValue().set(
-			championSpellRedisKey, championSpellRedisValue, getSpellCoolTime(spellName.get()), TimeUnit.MILLISECONDS
-		);
+		long coolTime = spellTextExtractor.getSpellCoolTime(championSpellKey.spellName());
+		// 이미 등록된 같은 쿨타임이 있으면 그 남은 시간 기준
+		long remainingMillis = spellCoolDownStore.save(championSpellKey, coolTime);
+		// 같은 쿨타임을 타이밍 휠에도 예약, 만료 시 대기자를 바로 깨운다
+		expiryDispatcher.register(championSpellKey, remainingMillis);
 
 		return new SpellCheckResult(
-			summoner.getId(), championName.get(), spellName.get(), spellRegisterMessage(championName.get(), spellName.get())
+			command.summonerId(), championSpellKey.championName(), championSpellKey.spellName(), championSpellKey.registerMessage()
 		);
 	}
 
 	/**
-	 * Redis 에 저장된 쿨타임 키가 사라질 때까지 최대 6분 동안 대기
-	 * 사라지면 알림 메시지와 함께 반환, 끝까지 안 사라지면 예외
+	 * 여러 텍스트(또는 한 텍스트의 여러 언급)에서 모든 적 챔피언 + 스펠 쌍을 추출
+	 * 모든 쿨타임 키를 한 번의 Redis 왕복으로 등록
 	 */
-	public SpellCoolDownResult championSpellCoolDown(SpellCoolDownCommand spellCoolDownCommand) {
-		String championSpellRedisKey = spellCoolDownCommand.summonerId() + ":" + spellCoolDownCommand.championName() + ":" + spellCoolDownCommand.spellName();
-
-		long timeoutMillis = TimeUnit.MINUTES.toMillis(6);
-		long checkIntervalMillis = 1000; // 1초마다 검사
-		long waited = 0;
-
-		while(waited < timeoutMillis) {
-			Boolean exists = spellRedisTemplate.hasKey(championSpellRedisKey);
-			if(Boolean.FALSE.equals(exists)) {
-				// 쿨타임이 끝나 키가 사라졌다면 알림 메시지 반환
-				return new SpellCoolDownResult(spellCoolDownCommand.summonerId(), alertMessage(
-					spellCoolDownCommand.championName(), spellCoolDownCommand.spellName()
-				));
-			}
+	public List<SpellCheckResult> championSpellBatchCheck(SpellBatchCheckCommand command) {
+		// 텍스트만으로 걸러낼 수 있는 요청은 DB, Riot API 조회 전에 거절
+		spellTextPrefilter.check(String.join(" ", command.finalTexts()));
 
-			try {
-				Thread.sleep(checkIntervalMillis); // 1초 대기 후 반복
-			}
-			catch (InterruptedException ex) {
-				Thread.currentThread().interrupt();
-				throw new InternalServerErrorException(SPELL_COOL_DOWN_MESSAGE);
+		String puuid = summonerPuuidCache.getPuuid(command.summonerId());
+		spectatorGamePrewarmer.recordFirstCheck(puuid, command.region());
+
+		CompletableFuture<List<String>> enemyChampionsFuture = enemyChampionResolver.resolve(puuid, command.region());
+
+		// Riot 응답을 기다리는 동안 텍스트별 챔피언/스펠 언급 분석
+		List<List<AhoCorasickAutomaton.Match>> mentionsPerText = command.finalTexts().stream()
+			.map(spellTextExtractor::scan)
+			.toList();
+
+		List<String> enemyChampions = enemyChampions(enemyChampionsFuture, puuid, command.region(), mentionsPerText);
+
+		List<SpellCoolDownKey> championSpellKeys = extractAll(command.summonerId(), mentionsPerText, enemyChampions);
+
+		// Redis 에 모든 쿨타임을 한 번에 등록
+		spellCoolDownStore.saveAll(coolTimeMillisByKey(championSpellKeys)).forEach(expiryDispatcher::register);
+
+		return championSpellKeys.stream()
+			.map(championSpellKey -> new SpellCheckResult(command.summonerId(), championSpellKey.championName(),
+				championSpellKey.spellName(), championSpellKey.registerMessage()))
+			.toList();
+	}
+
+	/**
+	 * 음성 세션 시작 시 소환사의 현재 게임 정보를 미리 조회해 캐시
+	 * 조회는 비동기로 진행되고, 결과를 기다리지 않고 바로 반환
+	 */
+	public void prewarmSession(SpellSessionCommand command) {
+		spectatorGamePrewarmer.prewarm(command.summonerId(), command.region());
+	}
+
+	/**
+	 * Redis 에 저장된 쿨타임 키가 만료될 때까지 최대 6분 동안 비동기로 대기
+	 * 타이밍 휠 또는 Redis 키 만료 이벤트를 받으면 알림 메시지와 함께 완료, 끝까지 만료되지 않으면 예외
+	 * 대기 중에 쿨타임이 취소되면 취소 메시지와 함께 바로 완료
+	 */
+	public CompletableFuture<SpellCoolDownResult> championSpellCoolDown(SpellCoolDownCommand spellCoolDownCommand) {
+		SpellCoolDownKey spellCoolDownKey = SpellCoolDownKey.from(spellCoolDownCommand);
+		String championSpellRedisKey = spellCoolDownKey.toRedisKey();
+
+		// 만료 이벤트를 놓치지 않도록 대기자를 먼저 등록한 뒤 키 존재 여부 확인
+		// 같은 키를 이미 기다리는 대기자가 있으면 그 감시에 합류하고 Redis 는 조회하지 않는다
+		CompletableFuture<SpellCoolDownOutcome> expired = waiterRegistry.register(championSpellRedisKey,
+			key -> CompletableFuture.completedFuture(spellCoolDownStore.exists(spellCoolDownKey)));
+
+		CompletableFuture<SpellCoolDownResult> spellCoolDownResult = expired
+			.orTimeout(COOL_DOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+			.handle((outcome, ex) -> {
+				// 제한 시간 초과해도 키가 남아 있으면 실패 처리
+				if(ex != null) {
+					throw new InternalServerErrorException(SPELL_COOL_DOWN_MESSAGE);
+				}
+
+				// 쿨타임이 끝나 키가 사라졌다면 알림 메시지, 취소되었다면 취소 메시지 반환
+				return new SpellCoolDownResult(spellCoolDownCommand.summonerId(), coolDownMessage(spellCoolDownKey, outcome));
+			});
+
+		// 클라이언트 연결이 끊겨 결과가 취소되면 대기자도 함께 정리
+		spellCoolDownResult.whenComplete((result, ex) -> {
+			if(spellCoolDownResult.isCancelled()) {
+				expired.cancel(false);
 			}
+		});
 
-			waited += checkIntervalMillis;
+		return spellCoolDownResult;
+	}
+
+	/**
+	 * 잘못 인식되어 등록된 쿨타임 취소
+	 * Redis 의 쿨타임과 만료 인덱스 기록을 지우고, 만료 예약을 취소한 뒤 그 키의 대기자를 바로 완료
+	 * 이미 없는 쿨타임이어도 이 노드에 남은 예약과 대기자는 정리
+	 */
+	public void cancelCoolDown(SpellCoolDownCommand command) {
+		SpellCoolDownKey spellCoolDownKey = SpellCoolDownKey.from(command);
+		spellCoolDownStore.delete(spellCoolDownKey);
+		expiryDispatcher.cancel(spellCoolDownKey);
+	}
+
+	/**
+	 * "점멸 30초 남음" 같은 텍스트로 등록된 쿨타임의 남은 시간을 조정
+	 * Redis TTL 과 만료 인덱스를 다시 쓰고 타이밍 휠에도 다시 예약하므로, 대기자는 조정된 시각에 완료된다
+	 * 남은 시간이 0 이면 취소와 같고, 그 사이 쿨타임이 끝났으면 NotFoundException(SPELL_COOL_DOWN_NOT_FOUND_MESSAGE)
+	 */
+	public SpellCoolDownRemainingResult adjustCoolDown(SpellCoolDownAdjustCommand command) {
+		SpellCoolDownKey spellCoolDownKey = spellTextExtractor.extractRegistered(
+			spellTextExtractor.scan(command.finalText()), spellCoolDownStore.findRemaining(command.summonerId()).keySet()
+		);
+		// 스펠의 원래 쿨타임보다 길게 늘리지 않는다
+		long remainingMillis = Math.min(command.remainingMillis(), spellTextExtractor.getSpellCoolTime(spellCoolDownKey.spellName()));
+
+		if(remainingMillis <= 0) {
+			spellCoolDownStore.delete(spellCoolDownKey);
+			expiryDispatcher.cancel(spellCoolDownKey);
+		}
+		// 조회 직후 쿨타임이 끝난 경우
+		else if(!spellCoolDownStore.adjust(spellCoolDownKey, remainingMillis)) {
+			throw new NotFoundException(SPELL_COOL_DOWN_NOT_FOUND_MESSAGE);
+		}
+		else {
+			expiryDispatcher.adjust(spellCoolDownKey, remainingMillis);
 		}
 
-		// 제한 시간 초과해도 키가 남아 있으면 실패 처리
-		throw new InternalServerErrorException(SPELL_COOL_DOWN_MESSAGE);
+		return new SpellCoolDownRemainingResult(spellCoolDownKey.summonerId(), spellCoolDownKey.championName(),
+			spellCoolDownKey.spellName(), Math.max(remainingMillis, 0L));
 	}
 
-	// 텍스트에 포함된 챔피언 이름이 적 챔피언 중에 있는지 확인
-	private boolean isChampion(String finalText, List<String> enemyChampions) {
-		return enemyChampions.stream()
-			.anyMatch(finalText::contains);
+	/**
+	 * 마지막으로 받은 알림 이후의 쿨타임 만료 알림 조회
+	 * 연결이 끊겼던 클라이언트도 놓친 알림을 이어서 받을 수 있다
+	 */
+	public List<SpellAlertResult> findAlerts(SpellAlertCommand command) {
+		return spellAlertStream.readAfter(command.summonerId(), command.lastAlertId(), MAX_ALERTS_PER_READ);
 	}
 
-	// 텍스트에 포함된 스펠 이름이 유효한 스펠 목록에 있는지 확인
-	private boolean isSpell(String finalText) {
-		return spells.stream()
-			.anyMatch(finalText::contains);
+	/**
+	 * 소환사의 진행 중인 모든 스펠 쿨타임과 남은 시간 조회 (남은 시간이 짧은 순)
+	 * 클라이언트는 남은 시간으로 카운트다운을 직접 그리고, 스펠마다 대기 요청을 걸지 않아도 된다
+	 */
+	public List<SpellCoolDownRemainingResult> findCoolDowns(Long summonerId) {
+		return toRemainingResults(spellCoolDownStore.findRemaining(summonerId));
+	}
+
+	// 쿨타임 키별 남은 시간을 조회 결과로 변환
+	static List<SpellCoolDownRemainingResult> toRemainingResults(Map<SpellCoolDownKey, Long> remainingMillisByKey) {
+		return remainingMillisByKey.entrySet().stream()
+			.map(entry -> new SpellCoolDownRemainingResult(entry.getKey().summonerId(), entry.getKey().championName(),
+				entry.getKey().spellName(), entry.getValue()))
+			.toList();
 	}
 
-	// 스펠 이름에 해당하는 쿨타임 반환
-	private long getSpellCoolTime(String spellName) {
-		return SPELL_COOL_TIME.get(spellName);
+	// 대기가 끝난 이유에 맞는 메시지
+	static String coolDownMessage(SpellCoolDownKey spellCoolDownKey, SpellCoolDownOutcome outcome) {
+		return outcome == SpellCoolDownOutcome.CANCELLED ? spellCoolDownKey.cancelMessage() : spellCoolDownKey.alertMessage();
 	}
 
-	// 텍스트에서 적 챔피언 이름 추출
-	private Optional<String> extractChampionName(String finalText, List<String> enemyChampions) {
-		return enemyChampions.stream()
-			.filter(finalText::contains)
-			.findFirst();
+	// 상대 챔피언 목록을 기다리고, 캐시된 상대 팀에 언급된 챔피언이 없으면 새 게임일 수 있으므로 다시 조회
+	private List<String> enemyChampions(CompletableFuture<List<String>> enemyChampionsFuture, String puuid, Region region,
+		List<List<AhoCorasickAutomaton.Match>> mentionsPerText) {
+		List<String> enemyChampions = join(enemyChampionsFuture);
+		if(mentionsPerText.stream().noneMatch(mentions -> spellTextExtractor.isChampion(mentions, enemyChampions))) {
+			return join(enemyChampionResolver.refresh(puuid, region));
+		}
+		return enemyChampions;
 	}
 
-	// 텍스트에서 스펠 이름 추출
-	private Optional<String> extractSpell(String finalText) {
-		return spells.stream()
-			.filter(finalText::contains)
-			.findFirst();
+	// 텍스트별 챔피언 + 스펠 쌍을 모으고, 하나도 없으면 단건 요청과 같은 예외
+	private List<SpellCoolDownKey> extractAll(Long summonerId, List<List<AhoCorasickAutomaton.Match>> mentionsPerText,
+		List<String> enemyChampions) {
+		List<SpellCoolDownKey> championSpellKeys = mentionsPerText.stream()
+			.flatMap(mentions -> spellTextExtractor.extractAll(summonerId, mentions, enemyChampions).stream())
+			.distinct()
+			.toList();
+
+		if(championSpellKeys.isEmpty()) {
+			boolean championMentioned = mentionsPerText.stream()
+				.anyMatch(mentions -> spellTextExtractor.isChampion(mentions, enemyChampions));
+			throw new NotFoundException(championMentioned ? SPELL_NAME_NOT_FOUND_MESSAGE : CHAMPION_NAME_NOT_FOUND_MESSAGE);
+		}
+		return championSpellKeys;
 	}
 
-	// 스펠 쿨타임이 끝났다는 메시지 생성
-	private String alertMessage(String championName, String spell) {
-		return String.format("%s %s 돌았습니다!", championName, spell);
+	// 등록 순서를 유지한 쿨타임 키별 쿨타임
+	private Map<SpellCoolDownKey, Long> coolTimeMillisByKey(List<SpellCoolDownKey> championSpellKeys) {
+		Map<SpellCoolDownKey, Long> coolTimeMillisByKey = new LinkedHashMap<>();
+		championSpellKeys.forEach(championSpellKey ->
+			coolTimeMillisByKey.put(championSpellKey, spellTextExtractor.getSpellCoolTime(championSpellKey.spellName())));
+		return coolTimeMillisByKey;
 	}
 
-	// 스펠 쿨타임이 등록되었다는 메시지 생성
-	private String spellRegisterMessage(String championName, String spell) {
-		return String.format("%s %s 쿨타임 등록했습니다!", championName, spell);
+	// 비동기 결과를 기다리고, 실패 원인 예외를 그대로 던진다
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if(ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
 	}
 
 }
@@ -0,0 +1,222 @@
+package lolpago.spell.application.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 단어를 한 번의 텍스트 순회로 모두 찾는 Aho-Corasick 오토마톤
+ * 각 단어는 그룹 번호(0~31)를 가지며, 컴파일 후에는 불변이라 여러 스레드에서 동시에 사용 가능
+ * 자식 전이는 노드별로 정렬된 배열(CSR)로 보관해 순회 중 객체를 할당하지 않는다
+ */
+public final class AhoCorasickAutomaton {
+	private static final int ROOT = 0;
+	private static final int NONE = -1;
+
+	private final String[] patterns;
+	private final int[] groups;
+
+	// 노드 n 의 자식 전이는 childLabels/childTargets 의 [childStart[n], childStart[n + 1]) 구간
+	private final int[] childStart;
+	private final char[] childLabels;
+	private final int[] childTargets;
+	private final int[] failure;
+	// 노드에서 끝나는 단어 번호, 없으면 NONE
+	private final int[] output;
+	// 실패 링크를 따라 단어가 끝나는 가장 가까운 노드, 없으면 NONE
+	private final int[] outputLink;
+
+	private AhoCorasickAutomaton(String[] patterns, int[] groups, int[] childStart, char[] childLabels,
+		int[] childTargets, int[] failure, int[] output, int[] outputLink) {
+		this.patterns = patterns;
+		this.groups = groups;
+		this.childStart = childStart;
+		this.childLabels = childLabels;
+		this.childTargets = childTargets;
+		this.failure = failure;
+		this.output = output;
+		this.outputLink = outputLink;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * 텍스트에서 찾은 모든 단어를 위치와 함께 반환 (끝 위치 순)
+	 */
+	public List<Match> findAll(String text) {
+		List<Match> matches = new ArrayList<>();
+		int state = ROOT;
+
+		for(int i = 0; i < text.length(); i++) {
+			state = next(state, text.charAt(i));
+			for(int node = output[state] != NONE ? state : outputLink[state]; node != NONE; node = outputLink[node]) {
+				int pattern = output[node];
+				matches.add(new Match(patterns[pattern], groups[pattern], i + 1 - patterns[pattern].length(), i + 1));
+			}
+		}
+
+		return matches;
+	}
+
+	/**
+	 * 텍스트에서 발견된 단어들의 그룹을 비트 마스크로 반환 (그룹 g 발견 시 1 << g)
+	 * requiredMask 의 그룹을 모두 찾으면 순회를 일찍 끝낸다, 객체를 할당하지 않는다
+	 */
+	public int matchedGroups(String text, int requiredMask) {
+		int mask = 0;
+		int state = ROOT;
+
+		for(int i = 0; i < text.length(); i++) {
+			state = next(state, text.charAt(i));
+			for(int node = output[state] != NONE ? state : outputLink[state]; node != NONE; node = outputLink[node]) {
+				mask |= 1 << groups[output[node]];
+			}
+			if((mask & requiredMask) == requiredMask) {
+				return mask;
+			}
+		}
+
+		return mask;
+	}
+
+	// 문자 하나를 읽은 다음 상태, 전이가 없으면 실패 링크를 따라간다
+	private int next(int state, char label) {
+		int current = state;
+		while(true) {
+			int child = child(current, label);
+			if(child != NONE) {
+				return child;
+			}
+			if(current == ROOT) {
+				return ROOT;
+			}
+			current = failure[current];
+		}
+	}
+
+	private int child(int node, char label) {
+		int index = Arrays.binarySearch(childLabels, childStart[node], childStart[node + 1], label);
+		return index >= 0 ? childTargets[index] : NONE;
+	}
+
+	/**
+	 * 텍스트에서 찾은 단어와 위치 [start, end)
+	 */
+	public record Match(
+		String word,
+		int group,
+		int start,
+		int end
+	) {
+	}
+
+	public static final class Builder {
+		private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+		private final List<Integer> nodeOutput = new ArrayList<>();
+		private final List<String> patterns = new ArrayList<>();
+		private final List<Integer> groups = new ArrayList<>();
+		private final Map<String, Integer> registered = new HashMap<>();
+
+		private Builder() {
+			newNode();
+		}
+
+		/**
+		 * 단어 추가, 이미 추가된 단어나 빈 문자열은 무시
+		 */
+		public Builder add(String pattern, int group) {
+			if(pattern == null || pattern.isEmpty() || registered.containsKey(pattern)) {
+				return this;
+			}
+			if(group < 0 || group >= Integer.SIZE) {
+				throw new IllegalArgumentException("group must be between 0 and 31: " + group);
+			}
+
+			int node = ROOT;
+			for(int i = 0; i < pattern.length(); i++) {
+				char label = pattern.charAt(i);
+				Integer child = children.get(node).get(label);
+				if(child == null) {
+					child = newNode();
+					children.get(node).put(label, child);
+				}
+				node = child;
+			}
+
+			registered.put(pattern, patterns.size());
+			nodeOutput.set(node, patterns.size());
+			patterns.add(pattern);
+			groups.add(group);
+			return this;
+		}
+
+		public AhoCorasickAutomaton build() {
+			int nodeCount = children.size();
+			int[] childStart = new int[nodeCount + 1];
+			int edgeCount = 0;
+			for(int node = 0; node < nodeCount; node++) {
+				childStart[node] = edgeCount;
+				edgeCount += children.get(node).size();
+			}
+			childStart[nodeCount] = edgeCount;
+
+			// TreeMap 순서대로 넣으므로 노드별 구간은 문자 순으로 정렬된다
+			char[] childLabels = new char[edgeCount];
+			int[] childTargets = new int[edgeCount];
+			for(int node = 0; node < nodeCount; node++) {
+				int index = childStart[node];
+				for(Map.Entry<Character, Integer> edge : children.get(node).entrySet()) {
+					childLabels[index] = edge.getKey();
+					childTargets[index] = edge.getValue();
+					index++;
+				}
+			}
+
+			int[] output = nodeOutput.stream().mapToInt(Integer::intValue).toArray();
+			int[] failure = new int[nodeCount];
+			int[] outputLink = new int[nodeCount];
+			outputLink[ROOT] = NONE;
+
+			// 너비 우선으로 실패 링크와 출력 링크 계산
+			Deque<Integer> queue = new ArrayDeque<>();
+			for(int child : children.get(ROOT).values()) {
+				failure[child] = ROOT;
+				outputLink[child] = NONE;
+				queue.add(child);
+			}
+			while(!queue.isEmpty()) {
+				int node = queue.poll();
+				for(Map.Entry<Character, Integer> edge : children.get(node).entrySet()) {
+					int child = edge.getValue();
+					int fallback = failure[node];
+					while(fallback != ROOT && !children.get(fallback).containsKey(edge.getKey())) {
+						fallback = failure[fallback];
+					}
+					Integer fallbackChild = children.get(fallback).get(edge.getKey());
+					failure[child] = fallbackChild != null ? fallbackChild : ROOT;
+					outputLink[child] = output[failure[child]] != NONE ? failure[child] : outputLink[failure[child]];
+					queue.add(child);
+				}
+			}
+
+			return new AhoCorasickAutomaton(
+				patterns.toArray(String[]::new), groups.stream().mapToInt(Integer::intValue).toArray(),
+				childStart, childLabels, childTargets, failure, output, outputLink
+			);
+		}
+
+		private int newNode() {
+			children.add(new TreeMap<>());
+			nodeOutput.add(NONE);
+			return children.size() - 1;
+		}
+	}
+
+}
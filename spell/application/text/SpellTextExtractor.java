@@ -0,0 +1,186 @@
+package lolpago.spell.application.text;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import lolpago.common.exception.type.NotFoundException;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STT 결과 텍스트에서 적 챔피언 이름과 스펠명을 추출하는 컴포넌트
+ * 텍스트는 SpellTextMatcher 로 한 번만 순회하고, 가장 앞에 나온(같은 위치면 가장 긴) 언급을 선택
+ */
+@Component
+@RequiredArgsConstructor
+public class SpellTextExtractor {
+	// 스펠 이름과 각 스펠의 쿨타임을 매칭
+	private static final Map<String, Long> SPELL_COOL_TIME = Map.of(
+			"점멸", 300_000L, // 300_000L : 5분
+			"순간이동", 360_000L,
+			"점화", 180_000L,
+			"회복", 240_000L,
+			"탈진", 210_000L,
+			"정화", 210_000L,
+			"방어막", 180_000L,
+			"유체화", 210_000L,
+			"강타", 90_000L
+	);
+
+	// 스펠 목록
+	static final List<String> SPELLS = List.of(
+			"점멸", "순간이동", "점화", "회복", "탈진", "정화", "방어막", "유체화", "강타"
+	);
+
+	// 텍스트 앞쪽 언급 우선, 같은 위치에서 시작하면 긴 단어 우선
+	private static final Comparator<AhoCorasickAutomaton.Match> EARLIEST_LONGEST =
+		Comparator.comparingInt(AhoCorasickAutomaton.Match::start)
+			.thenComparing(Comparator.comparingInt(AhoCorasickAutomaton.Match::end).reversed());
+
+	private final SpellTextMatcher spellTextMatcher;
+
+	/**
+	 * 텍스트에 나온 모든 챔피언/스펠 언급을 한 번의 순회로 찾는다
+	 * 상대 팀 정보와 무관하므로 Riot 응답을 기다리는 동안 미리 수행할 수 있다
+	 */
+	public List<AhoCorasickAutomaton.Match> scan(String finalText) {
+		return spellTextMatcher.findAll(finalText);
+	}
+
+	/**
+	 * 텍스트 언급에서 적 챔피언 이름과 스펠명을 골라 쿨타임 키 생성
+	 * 적 챔피언 이름이나 유효한 스펠 이름이 없으면 예외
+	 */
+	public SpellCoolDownKey extract(Long summonerId, List<AhoCorasickAutomaton.Match> matches, List<String> enemyChampions) {
+		// finalText 에 적 챔피언 이름이 없으면 예외
+		String championName = extractChampionName(matches, enemyChampions)
+			.orElseThrow(() -> new NotFoundException(CHAMPION_NAME_NOT_FOUND_MESSAGE));
+
+		// finalText 에 유효한 스펠 이름이 없으면 예외
+		String spellName = extractSpell(matches)
+			.orElseThrow(() -> new NotFoundException(SPELL_NAME_NOT_FOUND_MESSAGE));
+
+		return new SpellCoolDownKey(summonerId, championName, spellName);
+	}
+
+	/**
+	 * 텍스트 언급에서 모든 "적 챔피언 + 스펠" 쌍을 순서대로 추출 (예: "제드 점멸 아리 점멸", "점멸 제드 점화 아리")
+	 * 스펠은 바로 앞 언급이 아직 짝이 없는 적 챔피언이면 그 챔피언과, 아니면 바로 뒤 언급이 적 챔피언일 때 그 챔피언과 짝지으며
+	 * 중복 쌍은 한 번만 담는다
+	 */
+	public List<SpellCoolDownKey> extractAll(Long summonerId, List<AhoCorasickAutomaton.Match> matches,
+		List<String> enemyChampions) {
+		List<AhoCorasickAutomaton.Match> mentions = nonOverlapping(matches);
+		boolean[] paired = new boolean[mentions.size()];
+		List<SpellCoolDownKey> championSpellKeys = new ArrayList<>();
+
+		for(int i = 0; i < mentions.size(); i++) {
+			if(mentions.get(i).group() != SpellTextMatcher.SPELL_GROUP) {
+				continue;
+			}
+
+			int championIndex;
+			if(i > 0 && !paired[i - 1] && isEnemyChampion(mentions.get(i - 1), enemyChampions)) {
+				championIndex = i - 1;
+			}
+			else if(i + 1 < mentions.size() && isEnemyChampion(mentions.get(i + 1), enemyChampions)) {
+				championIndex = i + 1;
+			}
+			else {
+				// 적 챔피언이 아닌 언급 옆의 스펠은 어느 챔피언에도 붙이지 않는다
+				continue;
+			}
+			paired[championIndex] = true;
+			paired[i] = true;
+
+			SpellCoolDownKey championSpellKey =
+				new SpellCoolDownKey(summonerId, mentions.get(championIndex).word(), mentions.get(i).word());
+			if(!championSpellKeys.contains(championSpellKey)) {
+				championSpellKeys.add(championSpellKey);
+			}
+		}
+
+		return championSpellKeys;
+	}
+
+	/**
+	 * 텍스트 언급이 가리키는 이미 등록된 쿨타임을 고른다 (예: "점멸 30초 남음", "제드 점멸 30초 남음")
+	 * 상대 팀 대신 등록된 쿨타임의 챔피언 이름으로 찾으므로 Riot API 를 조회하지 않는다
+	 * 챔피언 언급이 없으면 언급된 스펠의 쿨타임이 하나일 때만 고르고, 여러 개면 챔피언 이름이 없다는 예외
+	 */
+	public SpellCoolDownKey extractRegistered(List<AhoCorasickAutomaton.Match> matches,
+		Collection<SpellCoolDownKey> registeredKeys) {
+		String spellName = extractSpell(matches)
+			.orElseThrow(() -> new NotFoundException(SPELL_NAME_NOT_FOUND_MESSAGE));
+
+		List<String> registeredChampions = registeredKeys.stream().map(SpellCoolDownKey::championName).distinct().toList();
+		Optional<String> championName = extractChampionName(matches, registeredChampions);
+
+		List<SpellCoolDownKey> candidates = registeredKeys.stream()
+			.filter(registeredKey -> registeredKey.spellName().equals(spellName))
+			.filter(registeredKey -> championName.map(registeredKey.championName()::equals).orElse(true))
+			.toList();
+
+		if(candidates.isEmpty()) {
+			throw new NotFoundException(SPELL_NAME_NOT_FOUND_MESSAGE);
+		}
+		if(candidates.size() > 1) {
+			throw new NotFoundException(CHAMPION_NAME_NOT_FOUND_MESSAGE);
+		}
+		return candidates.get(0);
+	}
+
+	// 스펠 이름에 해당하는 쿨타임 반환
+	public long getSpellCoolTime(String spellName) {
+		return SPELL_COOL_TIME.get(spellName);
+	}
+
+	// 텍스트에 포함된 챔피언 이름이 적 챔피언 중에 있는지 확인
+	public boolean isChampion(List<AhoCorasickAutomaton.Match> matches, List<String> enemyChampions) {
+		return extractChampionName(matches, enemyChampions).isPresent();
+	}
+
+	// 텍스트에서 적 챔피언 이름 추출
+	private Optional<String> extractChampionName(List<AhoCorasickAutomaton.Match> matches, List<String> enemyChampions) {
+		return matches.stream()
+			.filter(match -> match.group() == SpellTextMatcher.CHAMPION_GROUP)
+			.filter(match -> enemyChampions.contains(match.word()))
+			.min(EARLIEST_LONGEST)
+			.map(AhoCorasickAutomaton.Match::word);
+	}
+
+	// 텍스트 순서대로 정렬한 언급, 앞에서 고른 더 긴 단어와 겹치는 언급은 제외
+	private List<AhoCorasickAutomaton.Match> nonOverlapping(List<AhoCorasickAutomaton.Match> matches) {
+		List<AhoCorasickAutomaton.Match> mentions = new ArrayList<>();
+		int lastEnd = 0;
+		for(AhoCorasickAutomaton.Match match : matches.stream().sorted(EARLIEST_LONGEST).toList()) {
+			if(match.start() < lastEnd) {
+				continue;
+			}
+			lastEnd = match.end();
+			mentions.add(match);
+		}
+		return mentions;
+	}
+
+	private boolean isEnemyChampion(AhoCorasickAutomaton.Match match, List<String> enemyChampions) {
+		return match.group() == SpellTextMatcher.CHAMPION_GROUP && enemyChampions.contains(match.word());
+	}
+
+	// 텍스트에서 스펠 이름 추출
+	private Optional<String> extractSpell(List<AhoCorasickAutomaton.Match> matches) {
+		return matches.stream()
+			.filter(match -> match.group() == SpellTextMatcher.SPELL_GROUP)
+			.min(EARLIEST_LONGEST)
+			.map(AhoCorasickAutomaton.Match::word);
+	}
+
+}
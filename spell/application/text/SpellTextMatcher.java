@@ -0,0 +1,68 @@
+package lolpago.spell.application.text;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.roster.ChampionIndex;
+
+/**
+ * 전체 챔피언 한글 이름과 스펠 이름을 하나의 Aho-Corasick 오토마톤으로 컴파일해
+ * STT 텍스트를 한 번만 순회하며 모든 챔피언/스펠 언급을 위치와 함께 찾는 컴포넌트
+ * 챔피언 인덱스가 갱신되면 다음 조회 때 오토마톤을 다시 컴파일
+ */
+@Component
+public class SpellTextMatcher {
+	public static final int CHAMPION_GROUP = 0;
+	public static final int SPELL_GROUP = 1;
+	public static final int CHAMPION_MASK = 1 << CHAMPION_GROUP;
+	public static final int SPELL_MASK = 1 << SPELL_GROUP;
+
+	private final ChampionIndex championIndex;
+
+	private volatile Compiled compiled;
+
+	public SpellTextMatcher(ChampionIndex championIndex) {
+		this.championIndex = championIndex;
+		this.compiled = compile(championIndex.snapshot());
+	}
+
+	/**
+	 * 텍스트에서 찾은 모든 챔피언/스펠 언급 (끝 위치 순)
+	 */
+	public List<AhoCorasickAutomaton.Match> findAll(String finalText) {
+		return automaton().findAll(finalText);
+	}
+
+	/**
+	 * 텍스트에 챔피언 이름(CHAMPION_MASK), 스펠 이름(SPELL_MASK)이 있는지 비트 마스크로 반환
+	 */
+	public int matchedGroups(String finalText) {
+		return automaton().matchedGroups(finalText, CHAMPION_MASK | SPELL_MASK);
+	}
+
+	// 현재 챔피언 인덱스 스냅샷으로 컴파일된 오토마톤, 스냅샷이 바뀌었으면 다시 컴파일
+	private AhoCorasickAutomaton automaton() {
+		ChampionIndex.Snapshot snapshot = championIndex.snapshot();
+		Compiled current = compiled;
+		if(current.source() != snapshot) {
+			current = compile(snapshot);
+			compiled = current;
+		}
+		return current.automaton();
+	}
+
+	private static Compiled compile(ChampionIndex.Snapshot snapshot) {
+		AhoCorasickAutomaton.Builder builder = AhoCorasickAutomaton.builder();
+		snapshot.krNames().forEach(championName -> builder.add(championName, CHAMPION_GROUP));
+		SpellTextExtractor.SPELLS.forEach(spell -> builder.add(spell, SPELL_GROUP));
+		return new Compiled(snapshot, builder.build());
+	}
+
+	private record Compiled(
+		ChampionIndex.Snapshot source,
+		AhoCorasickAutomaton automaton
+	) {
+	}
+
+}
@@ -0,0 +1,59 @@
+package lolpago.spell.application.text;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lolpago.common.exception.type.NotFoundException;
+
+/**
+ * DB, Riot API 조회 전에 텍스트만으로 스펠 체크 요청을 걸러내는 사전 필터
+ * 1단계: 스펠 이름이 하나도 없으면 거절
+ * 2단계: 전체 챔피언 이름 중 하나도 없으면 거절
+ * 두 단계 모두 SpellTextMatcher 오토마톤의 한 번의 순회로 판단
+ * 단계별 거절 수는 spell.check.prefilter 카운터로 노출
+ */
+@Component
+public class SpellTextPrefilter {
+	private static final String METRIC_NAME = "spell.check.prefilter";
+
+	private final SpellTextMatcher spellTextMatcher;
+	private final Counter spellRejectedCounter;
+	private final Counter championRejectedCounter;
+	private final Counter passedCounter;
+
+	public SpellTextPrefilter(SpellTextMatcher spellTextMatcher, MeterRegistry meterRegistry) {
+		this.spellTextMatcher = spellTextMatcher;
+		this.spellRejectedCounter = Counter.builder(METRIC_NAME).tag("result", "rejected").tag("stage", "spell")
+			.register(meterRegistry);
+		this.championRejectedCounter = Counter.builder(METRIC_NAME).tag("result", "rejected").tag("stage", "champion")
+			.register(meterRegistry);
+		this.passedCounter = Counter.builder(METRIC_NAME).tag("result", "passed").tag("stage", "all")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 스펠 이름과 챔피언 이름이 모두 들어 있을 가능성이 있는 텍스트만 통과
+	 * 걸러지면 예외
+	 */
+	public void check(String finalText) {
+		int matchedGroups = spellTextMatcher.matchedGroups(finalText);
+
+		// finalText 에 유효한 스펠 이름이 없으면 예외
+		if((matchedGroups & SpellTextMatcher.SPELL_MASK) == 0) {
+			spellRejectedCounter.increment();
+			throw new NotFoundException(SPELL_NAME_NOT_FOUND_MESSAGE);
+		}
+
+		// finalText 에 어떤 챔피언 이름도 없으면 예외
+		if((matchedGroups & SpellTextMatcher.CHAMPION_MASK) == 0) {
+			championRejectedCounter.increment();
+			throw new NotFoundException(CHAMPION_NAME_NOT_FOUND_MESSAGE);
+		}
+
+		passedCounter.increment();
+	}
+
+}
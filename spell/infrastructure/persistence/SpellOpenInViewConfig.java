@@ -0,0 +1,33 @@
+package lolpago.spell.infrastructure.persistence;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open-Session-in-View 를 스펠 경로(/spell/**)에서 제외
+ * OSIV 가 켜져 있으면 요청 동안 EntityManager 가 열려 있어 Riot 호출과 쿨타임 대기 중에도 JDBC 커넥션을 쥘 수 있으므로,
+ * 이 인터셉터 빈을 대신 등록해 Spring Boot 기본 OSIV 인터셉터를 끄고 스펠 외 경로에만 다시 적용한다
+ * spring.jpa.open-in-view=false 면 어느 경로에도 적용하지 않는다
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.jpa.open-in-view", havingValue = "true", matchIfMissing = true)
+public class SpellOpenInViewConfig implements WebMvcConfigurer {
+
+	@Bean
+	public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+		return new OpenEntityManagerInViewInterceptor();
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+			.excludePathPatterns("/spell", "/spell/**");
+	}
+
+}
@@ -0,0 +1,68 @@
+package lolpago.spell.infrastructure.persistence;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lolpago.spell.infrastructure.redis.SummonerPuuidEvictionBroadcaster;
+import lolpago.summoner.domain.Summoner;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Summoner 엔티티의 수정/삭제가 커밋되면 모든 노드의 스펠 경로 puuid 캐시를 무효화하는 Hibernate 이벤트 리스너
+ * 커밋 전에 무효화하면 동시 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 이후(POST_COMMIT_*)에만 처리하고,
+ * 롤백된 변경은 무효화하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class SummonerChangeListener implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final SummonerPuuidEvictionBroadcaster summonerPuuidEvictionBroadcaster;
+
+	@PostConstruct
+	public void register() {
+		EventListenerRegistry eventListenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+			.getServiceRegistry()
+			.getService(EventListenerRegistry.class);
+		eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+		eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		if(event.getEntity() instanceof Summoner summoner) {
+			summonerPuuidEvictionBroadcaster.evict(summoner.getId());
+		}
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		if(event.getEntity() instanceof Summoner summoner) {
+			summonerPuuidEvictionBroadcaster.evict(summoner.getId());
+		}
+	}
+
+	// 커밋에 실패한 변경은 DB 값이 그대로이므로 캐시를 유지
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+	}
+
+	@Override
+	public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return true;
+	}
+
+}
@@ -0,0 +1,122 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.ReactiveSpellCoolDownStore;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 소환사별 해시 + 필드 단위 만료 저장 방식의 리액티브 버전
+ */
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "spell.cooldown.storage", havingValue = "hash")
+public class ReactiveRedisHashSpellCoolDownStore implements ReactiveSpellCoolDownStore {
+
+	private final ReactiveStringRedisTemplate spellReactiveRedisTemplate;
+	// 만료 스캐너가 켜져 있을 때만 만료 인덱스에 기록 (스캐너만 인덱스를 비운다)
+	// 만료 인덱스는 소환사 키와 다른 슬롯이라 쿨타임 스크립트와 따로 호출
+	private final boolean expiryIndexed;
+
+	public ReactiveRedisHashSpellCoolDownStore(
+		@Qualifier("spellReactiveRedisTemplate") ReactiveStringRedisTemplate spellReactiveRedisTemplate,
+		@Value("${spell.cooldown.scanner.enabled:true}") boolean expiryIndexed
+	) {
+		this.spellReactiveRedisTemplate = spellReactiveRedisTemplate;
+		this.expiryIndexed = expiryIndexed;
+	}
+
+	@Override
+	public Mono<Long> save(SpellCoolDownKey spellCoolDownKey, long coolTimeMillis) {
+		return saveAll(Map.of(spellCoolDownKey, coolTimeMillis))
+			.map(remainingMillisByKey -> remainingMillisByKey.get(spellCoolDownKey));
+	}
+
+	@Override
+	public Mono<Map<SpellCoolDownKey, Long>> saveAll(Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		return Flux.fromIterable(RedisHashSpellCoolDownStore.groupBySummoner(coolTimeMillisByKey).entrySet())
+			.concatMap(entry -> spellReactiveRedisTemplate.execute(SpellCoolDownScripts.HASH_REGISTER,
+					SpellCoolDownScripts.hashRegisterKeys(SpellCoolDownKey.hashKeyOf(entry.getKey())),
+					SpellCoolDownScripts.hashRegisterArgs(entry.getKey(), entry.getValue()))
+				.cast(Object.class)
+				.collectList()
+				.map(SpellCoolDownScripts::flatten)
+				.map(remainingMillis -> SpellCoolDownScripts.toRemainingMillis(entry.getValue().keySet(), remainingMillis)))
+			.<Map<SpellCoolDownKey, Long>>collect(LinkedHashMap::new, Map::putAll)
+			.flatMap(remainingMillisByKey -> indexExpiry(remainingMillisByKey).thenReturn(remainingMillisByKey));
+	}
+
+	@Override
+	public Mono<Boolean> exists(SpellCoolDownKey spellCoolDownKey) {
+		return spellReactiveRedisTemplate.execute(
+				SpellCoolDownScripts.HASH_EXISTS, List.of(spellCoolDownKey.toHashKey()), List.of(spellCoolDownKey.toHashField())
+			)
+			.next()
+			.map(exists -> exists == 1L)
+			.defaultIfEmpty(false);
+	}
+
+	@Override
+	public Mono<Map<SpellCoolDownKey, Long>> findRemaining(Long summonerId) {
+		return spellReactiveRedisTemplate.execute(
+				SpellCoolDownScripts.HASH_REMAINING, List.of(SpellCoolDownKey.hashKeyOf(summonerId)), List.of()
+			)
+			.cast(Object.class)
+			.collectList()
+			.map(remaining -> SpellCoolDownScripts.toRemainingMillisByKey(summonerId, remaining));
+	}
+
+	// 만료 인덱스를 먼저 지워 취소한 쿨타임을 스캐너가 만료로 알리지 않게 한다
+	@Override
+	public Mono<Boolean> delete(SpellCoolDownKey spellCoolDownKey) {
+		return unindexExpiry(spellCoolDownKey)
+			.thenMany(spellReactiveRedisTemplate.execute(SpellCoolDownScripts.HASH_CANCEL,
+				SpellCoolDownScripts.hashChangeKeys(spellCoolDownKey), SpellCoolDownScripts.hashCancelArgs(spellCoolDownKey)))
+			.next()
+			.map(deleted -> deleted == 1L)
+			.defaultIfEmpty(false);
+	}
+
+	@Override
+	public Mono<Boolean> adjust(SpellCoolDownKey spellCoolDownKey, long remainingMillis) {
+		return spellReactiveRedisTemplate.execute(SpellCoolDownScripts.HASH_ADJUST,
+				SpellCoolDownScripts.hashChangeKeys(spellCoolDownKey),
+				SpellCoolDownScripts.hashAdjustArgs(spellCoolDownKey, remainingMillis))
+			.next()
+			.map(adjusted -> adjusted == 1L)
+			.defaultIfEmpty(false)
+			.flatMap(adjusted -> adjusted
+				? indexExpiry(Map.of(spellCoolDownKey, remainingMillis)).thenReturn(true)
+				: Mono.just(false));
+	}
+
+	private Mono<Void> indexExpiry(Map<SpellCoolDownKey, Long> remainingMillisByKey) {
+		if(!expiryIndexed || remainingMillisByKey.isEmpty()) {
+			return Mono.empty();
+		}
+		return spellReactiveRedisTemplate.execute(SpellCoolDownScripts.EXPIRY_INDEX_ADD,
+				List.of(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY), SpellCoolDownScripts.expiryIndexArgs(remainingMillisByKey))
+			.then();
+	}
+
+	private Mono<Void> unindexExpiry(SpellCoolDownKey spellCoolDownKey) {
+		if(!expiryIndexed) {
+			return Mono.empty();
+		}
+		return spellReactiveRedisTemplate.opsForZSet()
+			.remove(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY, spellCoolDownKey.toRedisKey())
+			.then();
+	}
+
+}
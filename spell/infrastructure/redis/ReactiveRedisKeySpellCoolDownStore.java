@@ -0,0 +1,124 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.ReactiveSpellCoolDownStore;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 쿨타임마다 문자열 키를 두는 기본 저장 방식의 리액티브 버전
+ */
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "spell.cooldown.storage", havingValue = "key", matchIfMissing = true)
+public class ReactiveRedisKeySpellCoolDownStore implements ReactiveSpellCoolDownStore {
+
+	private final ReactiveStringRedisTemplate spellReactiveRedisTemplate;
+	// 만료 스캐너가 켜져 있을 때만 만료 인덱스에 기록 (스캐너만 인덱스를 비운다)
+	// 만료 인덱스는 소환사 키와 다른 슬롯이라 쿨타임 스크립트와 따로 호출
+	private final boolean expiryIndexed;
+
+	public ReactiveRedisKeySpellCoolDownStore(
+		@Qualifier("spellReactiveRedisTemplate") ReactiveStringRedisTemplate spellReactiveRedisTemplate,
+		@Value("${spell.cooldown.scanner.enabled:true}") boolean expiryIndexed
+	) {
+		this.spellReactiveRedisTemplate = spellReactiveRedisTemplate;
+		this.expiryIndexed = expiryIndexed;
+	}
+
+	@Override
+	public Mono<Long> save(SpellCoolDownKey spellCoolDownKey, long coolTimeMillis) {
+		return saveAll(Map.of(spellCoolDownKey, coolTimeMillis))
+			.map(remainingMillisByKey -> remainingMillisByKey.get(spellCoolDownKey));
+	}
+
+	// 소환사마다 스크립트 한 번 (배치 요청은 한 소환사의 쿨타임이므로 왕복 1회, 스크립트의 키가 모두 같은 슬롯)
+	@Override
+	public Mono<Map<SpellCoolDownKey, Long>> saveAll(Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		return Flux.fromIterable(RedisHashSpellCoolDownStore.groupBySummoner(coolTimeMillisByKey).values())
+			.concatMap(summonerCoolTimes -> spellReactiveRedisTemplate.execute(SpellCoolDownScripts.KEY_REGISTER,
+					SpellCoolDownScripts.keyRegisterKeys(summonerCoolTimes),
+					SpellCoolDownScripts.keyRegisterArgs(summonerCoolTimes))
+				.cast(Object.class)
+				.collectList()
+				.map(SpellCoolDownScripts::flatten)
+				.map(remainingMillis -> SpellCoolDownScripts.toRemainingMillis(summonerCoolTimes.keySet(), remainingMillis)))
+			.<Map<SpellCoolDownKey, Long>>collect(LinkedHashMap::new, Map::putAll)
+			.flatMap(remainingMillisByKey -> indexExpiry(remainingMillisByKey).thenReturn(remainingMillisByKey));
+	}
+
+	@Override
+	public Mono<Boolean> exists(SpellCoolDownKey spellCoolDownKey) {
+		return spellReactiveRedisTemplate.hasKey(spellCoolDownKey.toRedisKey());
+	}
+
+	// 소환사 쿨타임 인덱스를 읽은 뒤 그 쿨타임 키들의 PTTL 을 스크립트 한 번으로 읽는다 (왕복 2회)
+	@Override
+	public Mono<Map<SpellCoolDownKey, Long>> findRemaining(Long summonerId) {
+		return spellReactiveRedisTemplate.opsForZSet()
+			.range(SpellCoolDownRedisKeys.coolDownIndexKeyOf(summonerId), Range.unbounded())
+			.collectList()
+			.flatMap(fields -> fields.isEmpty()
+				? Mono.just(Map.<SpellCoolDownKey, Long>of())
+				: spellReactiveRedisTemplate.execute(SpellCoolDownScripts.KEY_REMAINING,
+						SpellCoolDownScripts.keyRemainingKeys(summonerId, fields), fields)
+					.cast(Object.class)
+					.collectList()
+					.map(remaining -> SpellCoolDownScripts.toRemainingMillisByKey(summonerId, remaining)));
+	}
+
+	// 만료 인덱스를 먼저 지워 취소한 쿨타임을 스캐너가 만료로 알리지 않게 한다
+	@Override
+	public Mono<Boolean> delete(SpellCoolDownKey spellCoolDownKey) {
+		return unindexExpiry(spellCoolDownKey)
+			.thenMany(spellReactiveRedisTemplate.execute(SpellCoolDownScripts.KEY_CANCEL,
+				SpellCoolDownScripts.keyChangeKeys(spellCoolDownKey), SpellCoolDownScripts.keyCancelArgs(spellCoolDownKey)))
+			.next()
+			.map(deleted -> deleted == 1L)
+			.defaultIfEmpty(false);
+	}
+
+	@Override
+	public Mono<Boolean> adjust(SpellCoolDownKey spellCoolDownKey, long remainingMillis) {
+		return spellReactiveRedisTemplate.execute(SpellCoolDownScripts.KEY_ADJUST,
+				SpellCoolDownScripts.keyChangeKeys(spellCoolDownKey),
+				SpellCoolDownScripts.keyAdjustArgs(spellCoolDownKey, remainingMillis))
+			.next()
+			.map(adjusted -> adjusted == 1L)
+			.defaultIfEmpty(false)
+			.flatMap(adjusted -> adjusted
+				? indexExpiry(Map.of(spellCoolDownKey, remainingMillis)).thenReturn(true)
+				: Mono.just(false));
+	}
+
+	private Mono<Void> indexExpiry(Map<SpellCoolDownKey, Long> remainingMillisByKey) {
+		if(!expiryIndexed || remainingMillisByKey.isEmpty()) {
+			return Mono.empty();
+		}
+		return spellReactiveRedisTemplate.execute(SpellCoolDownScripts.EXPIRY_INDEX_ADD,
+				List.of(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY), SpellCoolDownScripts.expiryIndexArgs(remainingMillisByKey))
+			.then();
+	}
+
+	private Mono<Void> unindexExpiry(SpellCoolDownKey spellCoolDownKey) {
+		if(!expiryIndexed) {
+			return Mono.empty();
+		}
+		return spellReactiveRedisTemplate.opsForZSet()
+			.remove(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY, spellCoolDownKey.toRedisKey())
+			.then();
+	}
+
+}
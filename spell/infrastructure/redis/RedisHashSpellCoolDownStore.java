@@ -0,0 +1,112 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lolpago.spell.application.cooldown.SpellCoolDownStore;
+
+/**
+ * 소환사별 해시 하나에 쿨타임을 필드로 모아 두는 저장 방식 (spell.cooldown.storage=hash, Redis 7.4 이상)
+ * 필드마다 HPEXPIREAT 으로 만료를 걸어 쿨타임마다 키를 만들지 않고, 소환사의 전체 쿨타임을 명령 하나로 읽을 수 있다
+ * 필드 만료는 키 만료 이벤트를 발생시키지 않으므로 만료 알림은 타이밍 휠이 담당
+ */
+@Component
+@ConditionalOnProperty(name = "spell.cooldown.storage", havingValue = "hash")
+public class RedisHashSpellCoolDownStore implements SpellCoolDownStore {
+
+	private final StringRedisTemplate spellRedisTemplate;
+	// 만료 스캐너가 켜져 있을 때만 만료 인덱스에 기록 (스캐너만 인덱스를 비운다)
+	// 만료 인덱스는 소환사 키와 다른 슬롯이라 쿨타임 스크립트와 따로 호출
+	private final boolean expiryIndexed;
+
+	public RedisHashSpellCoolDownStore(
+		@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate,
+		@Value("${spell.cooldown.scanner.enabled:true}") boolean expiryIndexed
+	) {
+		this.spellRedisTemplate = spellRedisTemplate;
+		this.expiryIndexed = expiryIndexed;
+	}
+
+	@Override
+	public long save(SpellCoolDownKey spellCoolDownKey, long coolTimeMillis) {
+		return saveAll(Map.of(spellCoolDownKey, coolTimeMillis)).get(spellCoolDownKey);
+	}
+
+	// 소환사마다 스크립트 한 번 (배치 요청은 한 소환사의 쿨타임이므로 왕복 1회)
+	@Override
+	public Map<SpellCoolDownKey, Long> saveAll(Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		Map<SpellCoolDownKey, Long> remainingMillisByKey = new LinkedHashMap<>();
+		groupBySummoner(coolTimeMillisByKey).forEach((summonerId, summonerCoolTimes) -> {
+			List<Long> remainingMillis = spellRedisTemplate.execute(SpellCoolDownScripts.HASH_REGISTER,
+				SpellCoolDownScripts.hashRegisterKeys(SpellCoolDownKey.hashKeyOf(summonerId)),
+				SpellCoolDownScripts.hashRegisterArgs(summonerId, summonerCoolTimes).toArray());
+			remainingMillisByKey.putAll(SpellCoolDownScripts.toRemainingMillis(summonerCoolTimes.keySet(), remainingMillis));
+		});
+		indexExpiry(remainingMillisByKey);
+		return remainingMillisByKey;
+	}
+
+	@Override
+	public boolean exists(SpellCoolDownKey spellCoolDownKey) {
+		Long exists = spellRedisTemplate.execute(
+			SpellCoolDownScripts.HASH_EXISTS, List.of(spellCoolDownKey.toHashKey()), spellCoolDownKey.toHashField()
+		);
+		return exists != null && exists == 1L;
+	}
+
+	// 소환사 해시 하나만 읽는다 (HGETALL, 왕복 1회)
+	@Override
+	public Map<SpellCoolDownKey, Long> findRemaining(Long summonerId) {
+		List<Object> remaining = spellRedisTemplate.execute(
+			SpellCoolDownScripts.HASH_REMAINING, List.of(SpellCoolDownKey.hashKeyOf(summonerId))
+		);
+		return SpellCoolDownScripts.toRemainingMillisByKey(summonerId, remaining == null ? List.of() : remaining);
+	}
+
+	// 만료 인덱스를 먼저 지워 취소한 쿨타임을 스캐너가 만료로 알리지 않게 한다
+	@Override
+	public boolean delete(SpellCoolDownKey spellCoolDownKey) {
+		if(expiryIndexed) {
+			spellRedisTemplate.opsForZSet().remove(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY, spellCoolDownKey.toRedisKey());
+		}
+		Long deleted = spellRedisTemplate.execute(SpellCoolDownScripts.HASH_CANCEL,
+			SpellCoolDownScripts.hashChangeKeys(spellCoolDownKey), SpellCoolDownScripts.hashCancelArgs(spellCoolDownKey).toArray());
+		return deleted != null && deleted == 1L;
+	}
+
+	@Override
+	public boolean adjust(SpellCoolDownKey spellCoolDownKey, long remainingMillis) {
+		Long adjusted = spellRedisTemplate.execute(SpellCoolDownScripts.HASH_ADJUST,
+			SpellCoolDownScripts.hashChangeKeys(spellCoolDownKey),
+			SpellCoolDownScripts.hashAdjustArgs(spellCoolDownKey, remainingMillis).toArray());
+		if(adjusted == null || adjusted != 1L) {
+			return false;
+		}
+		indexExpiry(Map.of(spellCoolDownKey, remainingMillis));
+		return true;
+	}
+
+	private void indexExpiry(Map<SpellCoolDownKey, Long> remainingMillisByKey) {
+		if(expiryIndexed && !remainingMillisByKey.isEmpty()) {
+			spellRedisTemplate.execute(SpellCoolDownScripts.EXPIRY_INDEX_ADD, List.of(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY),
+				SpellCoolDownScripts.expiryIndexArgs(remainingMillisByKey).toArray());
+		}
+	}
+
+	static Map<Long, Map<SpellCoolDownKey, Long>> groupBySummoner(Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		Map<Long, Map<SpellCoolDownKey, Long>> bySummoner = new LinkedHashMap<>();
+		coolTimeMillisByKey.forEach((spellCoolDownKey, coolTimeMillis) ->
+			bySummoner.computeIfAbsent(spellCoolDownKey.summonerId(), summonerId -> new LinkedHashMap<>())
+				.put(spellCoolDownKey, coolTimeMillis));
+		return bySummoner;
+	}
+
+}
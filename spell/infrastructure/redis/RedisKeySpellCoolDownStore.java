@@ -0,0 +1,106 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lolpago.spell.application.cooldown.SpellCoolDownStore;
+
+/**
+ * 쿨타임마다 문자열 키("{소환사ID}:챔피언:스펠")를 두는 기본 저장 방식
+ * 키 만료 시 Redis 키 만료 이벤트가 발생한다
+ * 소환사별 쿨타임 인덱스(ZSET)로 소환사의 진행 중인 쿨타임을 모아 조회
+ */
+@Component
+@ConditionalOnProperty(name = "spell.cooldown.storage", havingValue = "key", matchIfMissing = true)
+public class RedisKeySpellCoolDownStore implements SpellCoolDownStore {
+
+	private final StringRedisTemplate spellRedisTemplate;
+	// 만료 스캐너가 켜져 있을 때만 만료 인덱스에 기록 (스캐너만 인덱스를 비운다)
+	// 만료 인덱스는 소환사 키와 다른 슬롯이라 쿨타임 스크립트와 따로 호출
+	private final boolean expiryIndexed;
+
+	public RedisKeySpellCoolDownStore(
+		@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate,
+		@Value("${spell.cooldown.scanner.enabled:true}") boolean expiryIndexed
+	) {
+		this.spellRedisTemplate = spellRedisTemplate;
+		this.expiryIndexed = expiryIndexed;
+	}
+
+	@Override
+	public long save(SpellCoolDownKey spellCoolDownKey, long coolTimeMillis) {
+		return saveAll(Map.of(spellCoolDownKey, coolTimeMillis)).get(spellCoolDownKey);
+	}
+
+	// 소환사마다 스크립트 한 번 (배치 요청은 한 소환사의 쿨타임이므로 왕복 1회, 스크립트의 키가 모두 같은 슬롯)
+	@Override
+	public Map<SpellCoolDownKey, Long> saveAll(Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		Map<SpellCoolDownKey, Long> remainingMillisByKey = new LinkedHashMap<>();
+		RedisHashSpellCoolDownStore.groupBySummoner(coolTimeMillisByKey).forEach((summonerId, summonerCoolTimes) -> {
+			List<Long> remainingMillis = spellRedisTemplate.execute(SpellCoolDownScripts.KEY_REGISTER,
+				SpellCoolDownScripts.keyRegisterKeys(summonerCoolTimes),
+				SpellCoolDownScripts.keyRegisterArgs(summonerCoolTimes).toArray());
+			remainingMillisByKey.putAll(SpellCoolDownScripts.toRemainingMillis(summonerCoolTimes.keySet(), remainingMillis));
+		});
+		indexExpiry(remainingMillisByKey);
+		return remainingMillisByKey;
+	}
+
+	@Override
+	public boolean exists(SpellCoolDownKey spellCoolDownKey) {
+		return Boolean.TRUE.equals(spellRedisTemplate.hasKey(spellCoolDownKey.toRedisKey()));
+	}
+
+	// 소환사 쿨타임 인덱스를 읽은 뒤 그 쿨타임 키들의 PTTL 을 스크립트 한 번으로 읽는다 (왕복 2회)
+	@Override
+	public Map<SpellCoolDownKey, Long> findRemaining(Long summonerId) {
+		Set<String> fields = spellRedisTemplate.opsForZSet().range(SpellCoolDownRedisKeys.coolDownIndexKeyOf(summonerId), 0, -1);
+		if(fields == null || fields.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Object> remaining = spellRedisTemplate.execute(SpellCoolDownScripts.KEY_REMAINING,
+			SpellCoolDownScripts.keyRemainingKeys(summonerId, fields), fields.toArray());
+		return SpellCoolDownScripts.toRemainingMillisByKey(summonerId, remaining == null ? List.of() : remaining);
+	}
+
+	// 만료 인덱스를 먼저 지워 취소한 쿨타임을 스캐너가 만료로 알리지 않게 한다
+	@Override
+	public boolean delete(SpellCoolDownKey spellCoolDownKey) {
+		if(expiryIndexed) {
+			spellRedisTemplate.opsForZSet().remove(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY, spellCoolDownKey.toRedisKey());
+		}
+		Long deleted = spellRedisTemplate.execute(SpellCoolDownScripts.KEY_CANCEL,
+			SpellCoolDownScripts.keyChangeKeys(spellCoolDownKey), SpellCoolDownScripts.keyCancelArgs(spellCoolDownKey).toArray());
+		return deleted != null && deleted == 1L;
+	}
+
+	@Override
+	public boolean adjust(SpellCoolDownKey spellCoolDownKey, long remainingMillis) {
+		Long adjusted = spellRedisTemplate.execute(SpellCoolDownScripts.KEY_ADJUST,
+			SpellCoolDownScripts.keyChangeKeys(spellCoolDownKey),
+			SpellCoolDownScripts.keyAdjustArgs(spellCoolDownKey, remainingMillis).toArray());
+		if(adjusted == null || adjusted != 1L) {
+			return false;
+		}
+		indexExpiry(Map.of(spellCoolDownKey, remainingMillis));
+		return true;
+	}
+
+	private void indexExpiry(Map<SpellCoolDownKey, Long> remainingMillisByKey) {
+		if(expiryIndexed && !remainingMillisByKey.isEmpty()) {
+			spellRedisTemplate.execute(SpellCoolDownScripts.EXPIRY_INDEX_ADD, List.of(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY),
+				SpellCoolDownScripts.expiryIndexArgs(remainingMillisByKey).toArray());
+		}
+	}
+
+}
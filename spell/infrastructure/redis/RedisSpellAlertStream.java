@@ -0,0 +1,58 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellAlertStream;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lolpago.spell.application.result.SpellAlertResult;
+
+/**
+ * 소환사별 Redis Stream("spell:alerts:{소환사ID}")에 쌓인 만료 알림을 읽는 구현
+ * 스트림 추가와 잘라내기는 만료 스캐너가 ALERT_APPEND 스크립트로 담당
+ */
+@Component
+public class RedisSpellAlertStream implements SpellAlertStream {
+
+	private final StringRedisTemplate spellRedisTemplate;
+
+	public RedisSpellAlertStream(@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate) {
+		this.spellRedisTemplate = spellRedisTemplate;
+	}
+
+	@Override
+	public List<SpellAlertResult> readAfter(Long summonerId, String lastAlertId, int count) {
+		List<MapRecord<String, Object, Object>> records = spellRedisTemplate.opsForStream().range(
+			SpellCoolDownRedisKeys.alertStreamKeyOf(summonerId),
+			Range.rightUnbounded(Range.Bound.exclusive(lastAlertId)),
+			Limit.limit().count(count)
+		);
+		if(records == null) {
+			return List.of();
+		}
+
+		return records.stream()
+			.map(record -> toResult(summonerId, record))
+			.toList();
+	}
+
+	private SpellAlertResult toResult(Long summonerId, MapRecord<String, Object, Object> record) {
+		Map<Object, Object> fields = record.getValue();
+		SpellCoolDownKey spellCoolDownKey = new SpellCoolDownKey(
+			summonerId, String.valueOf(fields.get("championName")), String.valueOf(fields.get("spellName"))
+		);
+
+		return new SpellAlertResult(
+			record.getId().getValue(), summonerId, spellCoolDownKey.championName(), spellCoolDownKey.spellName(),
+			spellCoolDownKey.alertMessage(), Long.parseLong(String.valueOf(fields.getOrDefault("expireAt", "0")))
+		);
+	}
+
+}
@@ -0,0 +1,55 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellCoolDownExpiryDispatcher;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다른 노드에서 조정된 쿨타임 이벤트(spell:cooldown:adjusted)를 받아 이 노드의 만료 예약을 옮기고 조정 이벤트를 발행
+ * 이 노드가 발행한 메시지는 조정 시점에 이미 처리했으므로 무시
+ */
+@Slf4j
+@Component
+public class SpellCoolDownAdjustmentListener implements MessageListener {
+
+	private final SpellCoolDownExpiryDispatcher expiryDispatcher;
+	private final SpellRedisListenerExecutor listenerExecutor;
+
+	public SpellCoolDownAdjustmentListener(
+		@Qualifier("spellRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+		SpellCoolDownExpiryDispatcher expiryDispatcher,
+		SpellRedisListenerExecutor listenerExecutor
+	) {
+		this.expiryDispatcher = expiryDispatcher;
+		this.listenerExecutor = listenerExecutor;
+		listenerContainer.addMessageListener(this, new ChannelTopic(SpellCoolDownRedisKeys.ADJUSTED_CHANNEL));
+	}
+
+	// 메시지 형식 "노드ID|쿨타임 키|새 남은 시간 ms"
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] tokens = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+		if(tokens.length != 3 || SpellCoolDownRedisKeys.NODE_ID.equals(tokens[0])) {
+			return;
+		}
+
+		try {
+			long remainingMillis = Long.parseLong(tokens[2]);
+			SpellCoolDownKey.parse(tokens[1]).ifPresent(spellCoolDownKey -> listenerExecutor.execute(tokens[1],
+				() -> expiryDispatcher.adjust(spellCoolDownKey, remainingMillis)));
+		}
+		catch (NumberFormatException ex) {
+			log.debug("잘못된 쿨타임 조정 메시지 {}", tokens[2]);
+		}
+	}
+
+}
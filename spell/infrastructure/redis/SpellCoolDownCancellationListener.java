@@ -0,0 +1,47 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellCoolDownExpiryDispatcher;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+
+/**
+ * 다른 노드에서 취소된 쿨타임 이벤트(spell:cooldown:cancelled)를 받아 이 노드의 만료 예약을 지우고 대기자를 바로 깨운다
+ * 이 노드가 발행한 메시지는 취소 시점에 이미 처리했으므로 무시
+ */
+@Component
+public class SpellCoolDownCancellationListener implements MessageListener {
+
+	private final SpellCoolDownExpiryDispatcher expiryDispatcher;
+	private final SpellRedisListenerExecutor listenerExecutor;
+
+	public SpellCoolDownCancellationListener(
+		@Qualifier("spellRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+		SpellCoolDownExpiryDispatcher expiryDispatcher,
+		SpellRedisListenerExecutor listenerExecutor
+	) {
+		this.expiryDispatcher = expiryDispatcher;
+		this.listenerExecutor = listenerExecutor;
+		listenerContainer.addMessageListener(this, new ChannelTopic(SpellCoolDownRedisKeys.CANCELLED_CHANNEL));
+	}
+
+	// 메시지 형식 "노드ID|쿨타임 키"
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] tokens = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+		if(tokens.length != 2 || SpellCoolDownRedisKeys.NODE_ID.equals(tokens[0])) {
+			return;
+		}
+
+		SpellCoolDownKey.parse(tokens[1]).ifPresent(spellCoolDownKey ->
+			listenerExecutor.execute(tokens[1], () -> expiryDispatcher.cancel(spellCoolDownKey)));
+	}
+
+}
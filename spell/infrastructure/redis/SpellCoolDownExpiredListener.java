@@ -0,0 +1,61 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellCoolDownExpiryDispatcher;
+import lolpago.spell.application.cooldown.SpellCoolDownExpirySource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 스캐너가 발행한 쿨타임 만료 이벤트(spell:cooldown:expired)를 받아 이 노드의 대기자를 깨우는 리스너
+ * 메시지의 만료 시각으로 spell.cooldown.alert.skew (source=scanner) 를 기록 (노드와 Redis 의 시계 차이 포함)
+ */
+@Slf4j
+@Component
+public class SpellCoolDownExpiredListener implements MessageListener {
+
+	private final SpellCoolDownExpiryDispatcher expiryDispatcher;
+	private final SpellRedisListenerExecutor listenerExecutor;
+
+	public SpellCoolDownExpiredListener(
+		@Qualifier("spellRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+		SpellCoolDownExpiryDispatcher expiryDispatcher,
+		SpellRedisListenerExecutor listenerExecutor
+	) {
+		this.expiryDispatcher = expiryDispatcher;
+		this.listenerExecutor = listenerExecutor;
+		listenerContainer.addMessageListener(this, new ChannelTopic(SpellCoolDownRedisKeys.EXPIRED_CHANNEL));
+	}
+
+	// 메시지 형식 "쿨타임 키|만료 시각 epoch ms"
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int delimiter = body.lastIndexOf('|');
+		if(delimiter < 0) {
+			return;
+		}
+
+		String championSpellRedisKey = body.substring(0, delimiter);
+		long expireAtMillis;
+		try {
+			expireAtMillis = Long.parseLong(body.substring(delimiter + 1));
+		}
+		catch (NumberFormatException ex) {
+			log.debug("잘못된 쿨타임 만료 메시지 {}", body);
+			listenerExecutor.execute(championSpellRedisKey,
+				() -> expiryDispatcher.dispatch(championSpellRedisKey, SpellCoolDownExpirySource.SCANNER));
+			return;
+		}
+		listenerExecutor.execute(championSpellRedisKey,
+			() -> expiryDispatcher.dispatch(championSpellRedisKey, SpellCoolDownExpirySource.SCANNER, expireAtMillis));
+	}
+
+}
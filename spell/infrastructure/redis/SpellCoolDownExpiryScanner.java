@@ -0,0 +1,170 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 인덱스(spell:cooldown:expiry)에서 만료 시각이 지난 쿨타임을 꺼내 모든 노드에 알리는 스캐너
+ * Redis 키 만료는 지연/샘플링 방식이라 부하가 크면 TTL 보다 늦게 만료 이벤트가 올 수 있어,
+ * 만료 시각 기준으로 직접 꺼내 "돌았습니다!" 알림 지연을 줄인다
+ * 꺼낸 알림은 소환사별 Redis Stream 에도 남겨, 연결이 끊긴 클라이언트가 마지막으로 받은 ID 부터 다시 읽을 수 있다
+ * 만료된 쿨타임을 읽고(READ_DUE) -> 스트림마다 추가하고(ALERT_APPEND) -> 인덱스에서 지우며 만료 이벤트를 발행(ACK_DUE)하므로
+ * 중간에 실패해도 알림을 잃지 않는다 (대신 다시 읽힌 알림이 스트림에 두 번 들어갈 수 있다)
+ * 클러스터 전체에서 임대(lease)를 가진 한 노드만 스캔하고, 리더가 죽으면 임대 만료 후 다른 노드가 이어받는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spell.cooldown.scanner.enabled", havingValue = "true", matchIfMissing = true)
+public class SpellCoolDownExpiryScanner {
+	// 종료 시 진행 중인 스캔이 끝나기를 기다리는 최대 시간
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+	private final StringRedisTemplate spellRedisTemplate;
+	private final long intervalMillis;
+	private final long leaseMillis;
+	private final int batchSize;
+	private final long alertStreamMaxLength;
+	private final long alertStreamMaxAgeMillis;
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "spell-cooldown-scanner");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile boolean leader;
+
+	public SpellCoolDownExpiryScanner(@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${spell.cooldown.scanner.interval-millis:50}") long intervalMillis,
+		@Value("${spell.cooldown.scanner.lease-millis:3000}") long leaseMillis,
+		@Value("${spell.cooldown.scanner.batch-size:500}") int batchSize,
+		@Value("${spell.alert-stream.max-length:100}") long alertStreamMaxLength,
+		@Value("${spell.alert-stream.max-age-millis:3600000}") long alertStreamMaxAgeMillis
+	) {
+		this.spellRedisTemplate = spellRedisTemplate;
+		this.intervalMillis = intervalMillis;
+		this.leaseMillis = leaseMillis;
+		this.batchSize = batchSize;
+		this.alertStreamMaxLength = alertStreamMaxLength;
+		this.alertStreamMaxAgeMillis = alertStreamMaxAgeMillis;
+		Gauge.builder("spell.cooldown.scanner.leader", this, scanner -> scanner.leader ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		executor.scheduleWithFixedDelay(this::scan, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		// 진행 중인 스캔이 끝난 뒤 임대를 반납해야 다른 노드의 스캔과 겹치지 않는다
+		executor.shutdown();
+		try {
+			if(!executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				executor.shutdownNow();
+				log.warn("쿨타임 스캐너가 제한 시간 안에 종료되지 않음");
+				return;
+			}
+		}
+		catch (InterruptedException ex) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		// 다른 노드가 임대 만료를 기다리지 않고 바로 이어받도록 반납
+		if(leader) {
+			try {
+				spellRedisTemplate.execute(SpellCoolDownScripts.LEASE_RELEASE,
+					List.of(SpellCoolDownRedisKeys.SCANNER_LEASE_KEY), SpellCoolDownRedisKeys.NODE_ID);
+			}
+			catch (RuntimeException ex) {
+				log.debug("쿨타임 스캐너 임대 반납 실패", ex);
+			}
+		}
+	}
+
+	private void scan() {
+		// 예외가 밖으로 나가면 이후 스캔이 멈추므로 모두 여기서 처리
+		try {
+			Long acquired = spellRedisTemplate.execute(SpellCoolDownScripts.LEASE_ACQUIRE,
+				List.of(SpellCoolDownRedisKeys.SCANNER_LEASE_KEY), SpellCoolDownRedisKeys.NODE_ID, String.valueOf(leaseMillis));
+			leader = acquired != null && acquired == 1L;
+			if(!leader) {
+				return;
+			}
+
+			// 한 번에 batchSize 개씩 읽고, 가득 찼으면 남은 것이 있을 수 있으므로 이어서 읽는다
+			// 스트림에 추가한 뒤에만 인덱스에서 지우므로, 추가가 실패하면 다음 스캔에서 다시 읽힌다
+			int read;
+			do {
+				List<Object> due = spellRedisTemplate.execute(SpellCoolDownScripts.READ_DUE,
+					List.of(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY), String.valueOf(batchSize));
+				List<Object> pairs = new ArrayList<>();
+				SpellCoolDownScripts.flattenInto(due == null ? List.of() : due, pairs);
+				if(pairs.isEmpty()) {
+					return;
+				}
+
+				appendAlerts(pairs);
+				acknowledge(pairs);
+				read = pairs.size() / 2;
+			}
+			while(read >= batchSize && !executor.isShutdown());
+		}
+		catch (RuntimeException ex) {
+			log.warn("쿨타임 만료 스캔 실패", ex);
+		}
+	}
+
+	// 읽은 (쿨타임 키, 만료 시각) 쌍을 소환사별로 묶어 스트림마다 한 번씩 추가
+	private void appendAlerts(List<Object> pairs) {
+		Map<Long, List<String>> alertsBySummoner = new LinkedHashMap<>();
+		for(int i = 0; i + 1 < pairs.size(); i += 2) {
+			String expireAt = String.valueOf(pairs.get(i + 1));
+			SpellCoolDownKey.parse(String.valueOf(pairs.get(i))).ifPresent(spellCoolDownKey -> {
+				List<String> alerts = alertsBySummoner.computeIfAbsent(spellCoolDownKey.summonerId(), summonerId -> {
+					List<String> args = new ArrayList<>();
+					args.add(String.valueOf(alertStreamMaxLength));
+					args.add(String.valueOf(alertStreamMaxAgeMillis));
+					return args;
+				});
+				alerts.add(spellCoolDownKey.championName());
+				alerts.add(spellCoolDownKey.spellName());
+				alerts.add(expireAt);
+			});
+		}
+
+		alertsBySummoner.forEach((summonerId, args) -> spellRedisTemplate.execute(SpellCoolDownScripts.ALERT_APPEND,
+			List.of(SpellCoolDownRedisKeys.alertStreamKeyOf(summonerId)), args.toArray()));
+	}
+
+	// 스트림에 추가한 쿨타임을 만료 인덱스에서 지우며 만료 이벤트 발행
+	private void acknowledge(List<Object> pairs) {
+		List<String> args = new ArrayList<>(pairs.size() + 1);
+		args.add(SpellCoolDownRedisKeys.EXPIRED_CHANNEL);
+		pairs.forEach(pair -> args.add(String.valueOf(pair)));
+		spellRedisTemplate.execute(SpellCoolDownScripts.ACK_DUE,
+			List.of(SpellCoolDownRedisKeys.EXPIRY_INDEX_KEY), args.toArray());
+	}
+
+}
@@ -0,0 +1,42 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.UUID;
+
+/**
+ * 모든 노드가 공유하는 쿨타임 관련 Redis 키와 채널
+ */
+public final class SpellCoolDownRedisKeys {
+	// 쿨타임 키({소환사ID}:챔피언:스펠)를 만료 시각(epoch ms) 순으로 담는 ZSET
+	// 모든 소환사가 공유하는 키라 쿨타임 스크립트에 넣지 않고 단일 키 명령/스크립트로만 다룬다
+	public static final String EXPIRY_INDEX_KEY = "spell:cooldown:expiry";
+	// 소환사의 진행 중인 쿨타임 필드(챔피언:스펠)를 만료 시각 순으로 담는 ZSET 키 접두사 ("spell:cooldown:index:{소환사ID}")
+	public static final String COOL_DOWN_INDEX_PREFIX = "spell:cooldown:index:";
+	// 쿨타임 등록 이벤트 채널, 메시지 형식 "노드ID|쿨타임 키|쿨타임 ms"
+	public static final String REGISTERED_CHANNEL = "spell:cooldown:registered";
+	// 쿨타임 조정 이벤트 채널, 메시지 형식 "노드ID|쿨타임 키|새 남은 시간 ms"
+	public static final String ADJUSTED_CHANNEL = "spell:cooldown:adjusted";
+	// 쿨타임 취소 이벤트 채널, 메시지 형식 "노드ID|쿨타임 키"
+	public static final String CANCELLED_CHANNEL = "spell:cooldown:cancelled";
+	// 만료 스캐너가 만료된 쿨타임을 알리는 채널, 메시지 형식 "쿨타임 키|만료 시각 epoch ms"
+	public static final String EXPIRED_CHANNEL = "spell:cooldown:expired";
+	// 소환사 puuid 캐시 무효화 채널, 메시지 형식 "노드ID|소환사ID"
+	public static final String SUMMONER_EVICTED_CHANNEL = "spell:summoner:evicted";
+	// 만료 스캐너 리더 임대 키, 값은 리더 노드 ID
+	public static final String SCANNER_LEASE_KEY = "spell:cooldown:scanner:lease";
+	// 소환사별 만료 알림 스트림 키 접두사 ("spell:alerts:{소환사ID}")
+	public static final String ALERT_STREAM_PREFIX = "spell:alerts:";
+	// 이 노드가 발행한 메시지를 구분하기 위한 ID
+	public static final String NODE_ID = UUID.randomUUID().toString();
+
+	private SpellCoolDownRedisKeys() {
+	}
+
+	public static String coolDownIndexKeyOf(Long summonerId) {
+		return COOL_DOWN_INDEX_PREFIX + "{" + summonerId + "}";
+	}
+
+	public static String alertStreamKeyOf(Long summonerId) {
+		return ALERT_STREAM_PREFIX + "{" + summonerId + "}";
+	}
+
+}
@@ -0,0 +1,425 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+
+/**
+ * 쿨타임 등록/확인/조회/취소/조정 Lua 스크립트 (처음 한 번 적재 후 EVALSHA 로 호출)
+ * 등록 스크립트는 한 번의 왕복으로 쿨타임 저장, 소환사 쿨타임 인덱스 기록, 등록 이벤트 발행을 원자적으로 수행하고
+ * 쿨타임별 실제 남은 시간(ms)을 돌려준다
+ * 전역 만료 인덱스(spell:cooldown:expiry)는 다른 슬롯의 키라 쿨타임 스크립트에서 건드리지 않고, 스캐너가 켜져 있을 때만
+ * 저장소가 EXPIRY_INDEX_ADD 와 ZREM 을 따로 호출해 기록한다 (스크립트 하나가 한 슬롯의 키만 다루도록)
+ * 같은 쿨타임이 이미 남아 있으면(같은 소환사의 중복 보고) 덮어쓰지 않고 남은 시간만 돌려준다, 키가 소환사 단위라 팀원과는 공유하지 않는다
+ * 시각은 Redis 서버 TIME 기준이라 노드 간 시계 차이의 영향을 받지 않는다
+ */
+final class SpellCoolDownScripts {
+
+	// KEYS[1..n] 쿨타임 키, KEYS[n+1..2n] 각 쿨타임 키의 소환사 쿨타임 인덱스 (같은 순서)
+	// ARGV[1] 등록 채널, ARGV[2] 노드 ID, 이후 쿨타임 키마다 (값, 쿨타임 ms)
+	// 새로 등록한 쿨타임은 소환사 쿨타임 인덱스(ZSET, 멤버 "챔피언:스펠")에도 기록해 소환사의 쿨타임을 모아 읽을 수 있게 한다
+	static final RedisScript<List<Long>> KEY_REGISTER = listScript("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local count = #KEYS / 2
+		local remaining = {}
+		for i = 1, count do
+			local key = KEYS[i]
+			local index = KEYS[i + count]
+			local value = ARGV[i * 2 + 1]
+			local coolTime = tonumber(ARGV[i * 2 + 2])
+			local remainingMillis = coolTime
+			local registered = redis.call('SET', key, value, 'PX', coolTime, 'NX')
+			if not registered then
+				local pttl = redis.call('PTTL', key)
+				if pttl > 0 then
+					remainingMillis = pttl
+				else
+					redis.call('SET', key, value, 'PX', coolTime)
+					registered = true
+				end
+			end
+			if registered then
+				redis.call('ZADD', index, now + coolTime, value)
+				if redis.call('PTTL', index) < coolTime then
+					redis.call('PEXPIRE', index, coolTime)
+				end
+				redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. key .. '|' .. coolTime)
+			end
+			remaining[i] = remainingMillis
+		end
+		return remaining
+		""");
+
+	// KEYS[1] 소환사 쿨타임 인덱스, KEYS[2..] 인덱스에서 읽은 필드의 쿨타임 키, ARGV 는 같은 순서의 필드(챔피언:스펠)
+	// 쿨타임 키마다 PTTL 을 읽어 (필드, 남은 시간 ms) 쌍 목록을 반환, 이미 끝난 쿨타임은 인덱스에서 정리
+	// 필드 목록은 호출하는 쪽이 먼저 인덱스를 ZRANGE 로 읽어 넘긴다 (스크립트가 건드리는 키를 모두 KEYS 로 선언하기 위해)
+	static final RedisScript<List<Object>> KEY_REMAINING = pairScript("""
+		local remaining = {}
+		for i = 2, #KEYS do
+			local field = ARGV[i - 1]
+			local pttl = redis.call('PTTL', KEYS[i])
+			if pttl > 0 then
+				table.insert(remaining, field)
+				table.insert(remaining, pttl)
+			else
+				redis.call('ZREM', KEYS[1], field)
+			end
+		end
+		return remaining
+		""");
+
+	// KEYS[1] 쿨타임 키, KEYS[2] 소환사 쿨타임 인덱스
+	// ARGV[1] 취소 채널, ARGV[2] 노드 ID, ARGV[3] 필드(챔피언:스펠)
+	// 쿨타임 키와 소환사 쿨타임 인덱스의 기록을 지우고, 남아 있던 쿨타임이면 취소 이벤트를 발행한 뒤 1
+	static final RedisScript<Long> KEY_CANCEL = RedisScript.of("""
+		local deleted = redis.call('DEL', KEYS[1])
+		redis.call('ZREM', KEYS[2], ARGV[3])
+		if deleted == 1 then
+			redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. KEYS[1])
+		end
+		return deleted
+		""", Long.class);
+
+	// KEYS[1] 쿨타임 키, KEYS[2] 소환사 쿨타임 인덱스
+	// ARGV[1] 조정 채널, ARGV[2] 노드 ID, ARGV[3] 필드(챔피언:스펠), ARGV[4] 새 남은 시간 ms
+	// 쿨타임이 남아 있을 때만 TTL 과 소환사 쿨타임 인덱스의 만료 시각을 다시 쓰고 조정 이벤트를 발행한 뒤 1
+	static final RedisScript<Long> KEY_ADJUST = RedisScript.of("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local remaining = tonumber(ARGV[4])
+		if not redis.call('SET', KEYS[1], ARGV[3], 'PX', remaining, 'XX') then
+			return 0
+		end
+		redis.call('ZADD', KEYS[2], now + remaining, ARGV[3])
+		if redis.call('PTTL', KEYS[2]) < remaining then
+			redis.call('PEXPIRE', KEYS[2], remaining)
+		end
+		redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. KEYS[1] .. '|' .. remaining)
+		return 1
+		""", Long.class);
+
+	// KEYS[1] 소환사 쿨타임 해시 (필드 값은 만료 시각 epoch ms, Redis 7.4 이상)
+	// ARGV[1] 등록 채널, ARGV[2] 노드 ID, ARGV[3] 소환사 ID, 이후 (필드, 쿨타임 ms) 쌍
+	static final RedisScript<List<Long>> HASH_REGISTER = listScript("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local remaining = {}
+		for i = 4, #ARGV, 2 do
+			local field = ARGV[i]
+			local coolTime = tonumber(ARGV[i + 1])
+			local expireAt = tonumber(redis.call('HGET', KEYS[1], field) or 0)
+			if expireAt > now then
+				table.insert(remaining, expireAt - now)
+			else
+				expireAt = now + coolTime
+				local member = ARGV[3] .. ':' .. field
+				redis.call('HSET', KEYS[1], field, expireAt)
+				redis.call('HPEXPIREAT', KEYS[1], expireAt, 'FIELDS', 1, field)
+				redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. member .. '|' .. coolTime)
+				table.insert(remaining, coolTime)
+			end
+		end
+		return remaining
+		""");
+
+	// KEYS[1] 소환사 쿨타임 해시, ARGV[1] 필드, 만료 시각이 지나지 않았으면 1
+	static final RedisScript<Long> HASH_EXISTS = RedisScript.of("""
+		local expireAt = redis.call('HGET', KEYS[1], ARGV[1])
+		if not expireAt then
+			return 0
+		end
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		if tonumber(expireAt) > now then
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	// KEYS[1] 소환사 쿨타임 해시, 만료 시각이 지나지 않은 (필드, 남은 시간 ms) 쌍 목록을 반환
+	static final RedisScript<List<Object>> HASH_REMAINING = pairScript("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local entries = redis.call('HGETALL', KEYS[1])
+		local remaining = {}
+		for i = 1, #entries, 2 do
+			local remainingMillis = tonumber(entries[i + 1]) - now
+			if remainingMillis > 0 then
+				table.insert(remaining, entries[i])
+				table.insert(remaining, remainingMillis)
+			end
+		end
+		return remaining
+		""");
+
+	// KEYS[1] 소환사 쿨타임 해시
+	// ARGV[1] 취소 채널, ARGV[2] 노드 ID, ARGV[3] 필드, ARGV[4] 쿨타임 키({소환사ID}:챔피언:스펠)
+	// 필드를 지우고, 남아 있던 쿨타임이면 취소 이벤트를 발행한 뒤 1
+	static final RedisScript<Long> HASH_CANCEL = RedisScript.of("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local expireAt = tonumber(redis.call('HGET', KEYS[1], ARGV[3]) or 0)
+		redis.call('HDEL', KEYS[1], ARGV[3])
+		if expireAt > now then
+			redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. ARGV[4])
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	// KEYS[1] 소환사 쿨타임 해시
+	// ARGV[1] 조정 채널, ARGV[2] 노드 ID, ARGV[3] 필드, ARGV[4] 쿨타임 키, ARGV[5] 새 남은 시간 ms
+	// 쿨타임이 남아 있을 때만 필드 값과 필드 만료를 다시 쓰고 조정 이벤트를 발행한 뒤 1
+	static final RedisScript<Long> HASH_ADJUST = RedisScript.of("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local expireAt = tonumber(redis.call('HGET', KEYS[1], ARGV[3]) or 0)
+		if expireAt <= now then
+			return 0
+		end
+		local remaining = tonumber(ARGV[5])
+		expireAt = now + remaining
+		redis.call('HSET', KEYS[1], ARGV[3], expireAt)
+		redis.call('HPEXPIREAT', KEYS[1], expireAt, 'FIELDS', 1, ARGV[3])
+		redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. ARGV[4] .. '|' .. remaining)
+		return 1
+		""", Long.class);
+
+	// KEYS[1] 만료 인덱스, ARGV 는 쿨타임마다 (쿨타임 키, 남은 시간 ms)
+	// 만료 시각을 Redis 서버 시각 기준으로 계산해 기록 (이미 남아 있던 쿨타임은 같은 만료 시각으로 다시 기록된다)
+	static final RedisScript<Long> EXPIRY_INDEX_ADD = RedisScript.of("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		for i = 1, #ARGV, 2 do
+			redis.call('ZADD', KEYS[1], now + tonumber(ARGV[i + 1]), ARGV[i])
+		end
+		return #ARGV / 2
+		""", Long.class);
+
+	// KEYS[1] 리더 임대 키, ARGV[1] 노드 ID, ARGV[2] 임대 시간 ms
+	// 비어 있으면 임대를 얻고, 이미 이 노드의 임대면 연장, 리더면 1
+	static final RedisScript<Long> LEASE_ACQUIRE = RedisScript.of("""
+		if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+			return 1
+		end
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			redis.call('PEXPIRE', KEYS[1], ARGV[2])
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	// KEYS[1] 리더 임대 키, ARGV[1] 노드 ID, 이 노드의 임대일 때만 반납
+	static final RedisScript<Long> LEASE_RELEASE = RedisScript.of("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	// KEYS[1] 만료 인덱스, ARGV[1] 최대 개수
+	// 만료 시각이 지난 (쿨타임 키, 만료 시각) 쌍 목록을 인덱스에서 지우지 않고 읽는다 (Redis 서버 시각 기준)
+	// 스캐너가 알림 스트림에 추가한 뒤 ACK_DUE 로 지우므로, 중간에 실패하면 다음 스캔에서 다시 읽힌다 (최소 한 번)
+	static final RedisScript<List<Object>> READ_DUE = pairScript("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		return redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'WITHSCORES', 'LIMIT', 0, tonumber(ARGV[1]))
+		""");
+
+	// KEYS[1] 만료 인덱스, ARGV[1] 만료 채널, 이후 READ_DUE 로 읽은 (쿨타임 키, 만료 시각) 쌍
+	// 읽은 뒤 만료 시각이 바뀌지 않은(조정/취소되지 않은) 쿨타임만 지우며 만료 이벤트를 발행하고, 지운 개수를 반환
+	static final RedisScript<Long> ACK_DUE = RedisScript.of("""
+		local acked = 0
+		for i = 2, #ARGV, 2 do
+			local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+			if score and tonumber(score) == tonumber(ARGV[i + 1]) then
+				redis.call('ZREM', KEYS[1], ARGV[i])
+				redis.call('PUBLISH', ARGV[1], ARGV[i] .. '|' .. ARGV[i + 1])
+				acked = acked + 1
+			end
+		end
+		return acked
+		""", Long.class);
+
+	// KEYS[1] 소환사 알림 스트림, ARGV[1] 스트림 최대 길이, ARGV[2] 스트림 보관 시간 ms
+	// 이후 알림마다 (챔피언, 스펠, 만료 시각 epoch ms), 추가한 알림 개수를 반환
+	// 스트림은 길이(MAXLEN)와 나이(MINID)로 잘라내고, 보관 시간 동안 새 알림이 없으면 키째 만료
+	static final RedisScript<Long> ALERT_APPEND = RedisScript.of("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		for i = 3, #ARGV, 3 do
+			redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*',
+				'championName', ARGV[i], 'spellName', ARGV[i + 1], 'expireAt', ARGV[i + 2])
+		end
+		redis.call('XTRIM', KEYS[1], 'MINID', '~', now - tonumber(ARGV[2]))
+		redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		return (#ARGV - 2) / 3
+		""", Long.class);
+
+	private SpellCoolDownScripts() {
+	}
+
+	// KEY_REGISTER 스크립트 키 (쿨타임 키..., 쿨타임 키마다 소환사 쿨타임 인덱스...), 한 소환사의 쿨타임만 넘긴다 (같은 슬롯)
+	static List<String> keyRegisterKeys(Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		List<String> keys = new ArrayList<>(coolTimeMillisByKey.size() * 2);
+		coolTimeMillisByKey.keySet().forEach(spellCoolDownKey -> keys.add(spellCoolDownKey.toRedisKey()));
+		coolTimeMillisByKey.keySet().forEach(spellCoolDownKey ->
+			keys.add(SpellCoolDownRedisKeys.coolDownIndexKeyOf(spellCoolDownKey.summonerId())));
+		return keys;
+	}
+
+	// KEY_REGISTER 스크립트 인자
+	static List<String> keyRegisterArgs(Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		List<String> args = new ArrayList<>(coolTimeMillisByKey.size() * 2 + 2);
+		args.add(SpellCoolDownRedisKeys.REGISTERED_CHANNEL);
+		args.add(SpellCoolDownRedisKeys.NODE_ID);
+		coolTimeMillisByKey.forEach((spellCoolDownKey, coolTimeMillis) -> {
+			args.add(spellCoolDownKey.toRedisValue());
+			args.add(String.valueOf(coolTimeMillis));
+		});
+		return args;
+	}
+
+	// KEY_REMAINING 스크립트 키 (소환사 쿨타임 인덱스, 필드마다 쿨타임 키), 인자는 같은 순서의 필드
+	static List<String> keyRemainingKeys(Long summonerId, Collection<String> fields) {
+		List<String> keys = new ArrayList<>(fields.size() + 1);
+		keys.add(SpellCoolDownRedisKeys.coolDownIndexKeyOf(summonerId));
+		fields.forEach(field -> keys.add(SpellCoolDownKey.redisKeyOf(summonerId, field)));
+		return keys;
+	}
+
+	// KEY_CANCEL, KEY_ADJUST 스크립트 키 (쿨타임 키, 소환사 쿨타임 인덱스)
+	static List<String> keyChangeKeys(SpellCoolDownKey spellCoolDownKey) {
+		return List.of(spellCoolDownKey.toRedisKey(),
+			SpellCoolDownRedisKeys.coolDownIndexKeyOf(spellCoolDownKey.summonerId()));
+	}
+
+	// KEY_CANCEL 스크립트 인자
+	static List<String> keyCancelArgs(SpellCoolDownKey spellCoolDownKey) {
+		return List.of(SpellCoolDownRedisKeys.CANCELLED_CHANNEL, SpellCoolDownRedisKeys.NODE_ID,
+			spellCoolDownKey.toRedisValue());
+	}
+
+	// KEY_ADJUST 스크립트 인자
+	static List<String> keyAdjustArgs(SpellCoolDownKey spellCoolDownKey, long remainingMillis) {
+		return List.of(SpellCoolDownRedisKeys.ADJUSTED_CHANNEL, SpellCoolDownRedisKeys.NODE_ID,
+			spellCoolDownKey.toRedisValue(), String.valueOf(remainingMillis));
+	}
+
+	// HASH_CANCEL, HASH_ADJUST 스크립트 키 (소환사 쿨타임 해시)
+	static List<String> hashChangeKeys(SpellCoolDownKey spellCoolDownKey) {
+		return List.of(spellCoolDownKey.toHashKey());
+	}
+
+	// HASH_CANCEL 스크립트 인자
+	static List<String> hashCancelArgs(SpellCoolDownKey spellCoolDownKey) {
+		return List.of(SpellCoolDownRedisKeys.CANCELLED_CHANNEL, SpellCoolDownRedisKeys.NODE_ID,
+			spellCoolDownKey.toHashField(), spellCoolDownKey.toRedisKey());
+	}
+
+	// HASH_ADJUST 스크립트 인자
+	static List<String> hashAdjustArgs(SpellCoolDownKey spellCoolDownKey, long remainingMillis) {
+		return List.of(SpellCoolDownRedisKeys.ADJUSTED_CHANNEL, SpellCoolDownRedisKeys.NODE_ID,
+			spellCoolDownKey.toHashField(), spellCoolDownKey.toRedisKey(), String.valueOf(remainingMillis));
+	}
+
+	// HASH_REGISTER 스크립트 키, 같은 소환사의 쿨타임만 한 번에 등록할 수 있다
+	static List<String> hashRegisterKeys(String hashKey) {
+		return List.of(hashKey);
+	}
+
+	// HASH_REGISTER 스크립트 인자
+	static List<String> hashRegisterArgs(Long summonerId, Map<SpellCoolDownKey, Long> coolTimeMillisByKey) {
+		List<String> args = new ArrayList<>(coolTimeMillisByKey.size() * 2 + 3);
+		args.add(SpellCoolDownRedisKeys.REGISTERED_CHANNEL);
+		args.add(SpellCoolDownRedisKeys.NODE_ID);
+		args.add(String.valueOf(summonerId));
+		coolTimeMillisByKey.forEach((spellCoolDownKey, coolTimeMillis) -> {
+			args.add(spellCoolDownKey.toHashField());
+			args.add(String.valueOf(coolTimeMillis));
+		});
+		return args;
+	}
+
+	// EXPIRY_INDEX_ADD 스크립트 인자 (쿨타임 키, 남은 시간 ms)
+	static List<String> expiryIndexArgs(Map<SpellCoolDownKey, Long> remainingMillisByKey) {
+		List<String> args = new ArrayList<>(remainingMillisByKey.size() * 2);
+		remainingMillisByKey.forEach((spellCoolDownKey, remainingMillis) -> {
+			args.add(spellCoolDownKey.toRedisKey());
+			args.add(String.valueOf(remainingMillis));
+		});
+		return args;
+	}
+
+	// 스크립트 결과(입력 순서의 남은 시간 목록)를 쿨타임 키별로 묶는다
+	static Map<SpellCoolDownKey, Long> toRemainingMillis(Collection<SpellCoolDownKey> spellCoolDownKeys,
+		List<Long> remainingMillis) {
+		Map<SpellCoolDownKey, Long> remainingMillisByKey = new LinkedHashMap<>();
+		int index = 0;
+		for(SpellCoolDownKey spellCoolDownKey : spellCoolDownKeys) {
+			remainingMillisByKey.put(spellCoolDownKey, remainingMillis.get(index++));
+		}
+		return remainingMillisByKey;
+	}
+
+	// 리액티브 실행 결과를 남은 시간 목록으로 변환
+	// Lettuce 리액티브 eval 은 배열 결과를 원소 단위로 내보내기도 하므로 중첩 목록을 평탄화
+	static List<Long> flatten(List<?> results) {
+		List<Long> remainingMillis = new ArrayList<>();
+		for(Object result : results) {
+			if(result instanceof List<?> nested) {
+				remainingMillis.addAll(flatten(nested));
+			}
+			else if(result instanceof Number number) {
+				remainingMillis.add(number.longValue());
+			}
+		}
+		return remainingMillis;
+	}
+
+	// KEY_REMAINING, HASH_REMAINING 결과((필드, 남은 시간 ms) 쌍 목록)를 남은 시간이 짧은 순의 쿨타임 키별 남은 시간으로 변환
+	// 리액티브 eval 이 원소 단위로 내보낸 결과도 받을 수 있도록 중첩 목록을 평탄화
+	static Map<SpellCoolDownKey, Long> toRemainingMillisByKey(Long summonerId, List<?> results) {
+		List<Object> pairs = new ArrayList<>();
+		flattenInto(results, pairs);
+
+		Map<SpellCoolDownKey, Long> remainingMillisByKey = new LinkedHashMap<>();
+		for(int i = 0; i + 1 < pairs.size(); i += 2) {
+			long remainingMillis = Long.parseLong(String.valueOf(pairs.get(i + 1)));
+			SpellCoolDownKey.parse(SpellCoolDownKey.redisKeyOf(summonerId, String.valueOf(pairs.get(i))))
+				.ifPresent(spellCoolDownKey -> remainingMillisByKey.put(spellCoolDownKey, remainingMillis));
+		}
+		return remainingMillisByKey.entrySet().stream()
+			.sorted(Map.Entry.comparingByValue())
+			.collect(LinkedHashMap::new, (sorted, entry) -> sorted.put(entry.getKey(), entry.getValue()), Map::putAll);
+	}
+
+	static void flattenInto(List<?> results, List<Object> flattened) {
+		for(Object result : results) {
+			if(result instanceof List<?> nested) {
+				flattenInto(nested, flattened);
+			}
+			else if(result != null) {
+				flattened.add(result);
+			}
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static RedisScript<List<Object>> pairScript(String script) {
+		return (RedisScript) RedisScript.of(script, List.class);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static RedisScript<List<Long>> listScript(String script) {
+		return (RedisScript) RedisScript.of(script, List.class);
+	}
+
+}
@@ -0,0 +1,41 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellCoolDownExpiryDispatcher;
+import lolpago.spell.application.cooldown.SpellCoolDownExpirySource;
+
+/**
+ * Redis 키 만료 이벤트(__keyevent@*__:expired)를 받아 쿨타임 대기자를 깨우는 리스너
+ * 만료 지연은 spell.cooldown.alert.skew (source=keyspace) 로 기록
+ */
+@Component
+public class SpellKeyExpirationListener extends KeyExpirationEventMessageListener {
+
+	private final SpellCoolDownExpiryDispatcher expiryDispatcher;
+	private final SpellRedisListenerExecutor listenerExecutor;
+
+	public SpellKeyExpirationListener(
+		@Qualifier("spellRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+		SpellCoolDownExpiryDispatcher expiryDispatcher,
+		SpellRedisListenerExecutor listenerExecutor
+	) {
+		super(listenerContainer);
+		this.expiryDispatcher = expiryDispatcher;
+		this.listenerExecutor = listenerExecutor;
+	}
+
+	@Override
+	protected void doHandleMessage(Message message) {
+		String championSpellRedisKey = new String(message.getBody(), StandardCharsets.UTF_8);
+		listenerExecutor.execute(championSpellRedisKey,
+			() -> expiryDispatcher.dispatch(championSpellRedisKey, SpellCoolDownExpirySource.KEYSPACE));
+	}
+
+}
@@ -0,0 +1,27 @@
+package lolpago.spell.infrastructure.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * reactive 프로필에서 사용하는 스펠 Redis 리액티브 템플릿 설정
+ */
+@Configuration
+@Profile("reactive")
+public class SpellReactiveRedisConfig {
+
+	/**
+	 * spellRedisTemplate 과 같은 Lettuce 커넥션 팩토리를 공유하는 리액티브 템플릿
+	 */
+	@Bean
+	public ReactiveStringRedisTemplate spellReactiveRedisTemplate(
+		@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate) {
+		return new ReactiveStringRedisTemplate((ReactiveRedisConnectionFactory) spellRedisTemplate.getConnectionFactory());
+	}
+
+}
@@ -0,0 +1,54 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 스펠 Redis 의 이벤트(키 만료 등)를 구독하기 위한 리스너 컨테이너 설정
+ * 컨테이너는 리스너를 구독 커넥션 스레드에서 바로 호출하고, 리스너는 메시지를 해석해 SpellRedisListenerExecutor 에
+ * 쿨타임 키별로 넘기기만 한다 (풀에 그대로 넘기면 같은 키의 등록/취소가 다른 스레드에서 순서가 바뀔 수 있다)
+ * 실행기는 Executor 빈으로 등록하지 않는다 (등록하면 Spring Boot 기본 applicationTaskExecutor 가 생성되지 않는다)
+ */
+@Configuration
+public class SpellRedisListenerConfig implements DisposableBean {
+
+	private final ThreadPoolTaskExecutor subscriptionExecutor;
+
+	public SpellRedisListenerConfig() {
+		this.subscriptionExecutor = new ThreadPoolTaskExecutor();
+		subscriptionExecutor.setThreadNamePrefix("spell-redis-subscription-");
+		subscriptionExecutor.setCorePoolSize(1);
+		subscriptionExecutor.setMaxPoolSize(1);
+		subscriptionExecutor.setQueueCapacity(0);
+		subscriptionExecutor.setDaemon(true);
+		subscriptionExecutor.initialize();
+	}
+
+	/**
+	 * spellRedisTemplate 과 같은 커넥션 팩토리를 사용하는 리스너 컨테이너
+	 * 모든 구독이 하나의 구독 커넥션을 공유
+	 */
+	@Bean
+	public RedisMessageListenerContainer spellRedisMessageListenerContainer(
+		@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(Objects.requireNonNull(spellRedisTemplate.getConnectionFactory()));
+		container.setTaskExecutor(new SyncTaskExecutor());
+		container.setSubscriptionExecutor(subscriptionExecutor);
+		return container;
+	}
+
+	@Override
+	public void destroy() {
+		subscriptionExecutor.shutdown();
+	}
+
+}
@@ -0,0 +1,61 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스펠 Redis 리스너 메시지를 처리하는 실행기
+ * 같은 쿨타임 키의 메시지(등록 -> 조정/취소 -> 만료)는 항상 같은 단일 스레드에서 받은 순서대로 처리하고,
+ * 큐가 가득 차면 구독 커넥션 스레드를 막지 않도록 메시지를 버리고 spell.redis.listener.dropped 로 센다
+ */
+@Slf4j
+@Component
+public class SpellRedisListenerExecutor {
+
+	private final ThreadPoolExecutor[] executors;
+	private final Counter dropped;
+
+	public SpellRedisListenerExecutor(MeterRegistry meterRegistry,
+		@Value("${spell.redis.listener.pool-size:4}") int poolSize,
+		@Value("${spell.redis.listener.queue-capacity:10000}") int queueCapacity
+	) {
+		this.dropped = Counter.builder("spell.redis.listener.dropped").register(meterRegistry);
+		this.executors = new ThreadPoolExecutor[poolSize];
+		for(int i = 0; i < poolSize; i++) {
+			String threadName = "spell-redis-listener-" + i;
+			executors[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, threadName);
+					thread.setDaemon(true);
+					return thread;
+				}, (runnable, executor) -> {
+					dropped.increment();
+					log.debug("스펠 Redis 리스너 큐 초과, 메시지를 버림 thread={}", threadName);
+				});
+		}
+	}
+
+	/**
+	 * 쿨타임 키별 순서를 지켜 실행
+	 */
+	public void execute(String championSpellRedisKey, Runnable task) {
+		executors[Math.floorMod(championSpellRedisKey.hashCode(), executors.length)].execute(task);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for(ThreadPoolExecutor executor : executors) {
+			executor.shutdownNow();
+		}
+	}
+
+}
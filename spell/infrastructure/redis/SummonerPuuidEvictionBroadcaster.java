@@ -0,0 +1,67 @@
+package lolpago.spell.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.roster.SummonerPuuidCache;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소환사 puuid 캐시 무효화를 모든 노드에 전파 (spell:summoner:evicted)
+ * 이 노드의 캐시는 발행 전에 직접 비우고, 다른 노드는 메시지를 받아 비운다
+ */
+@Slf4j
+@Component
+public class SummonerPuuidEvictionBroadcaster implements MessageListener {
+
+	private final StringRedisTemplate spellRedisTemplate;
+	private final SummonerPuuidCache summonerPuuidCache;
+
+	public SummonerPuuidEvictionBroadcaster(@Qualifier("spellRedisTemplate") StringRedisTemplate spellRedisTemplate,
+		@Qualifier("spellRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+		SummonerPuuidCache summonerPuuidCache
+	) {
+		this.spellRedisTemplate = spellRedisTemplate;
+		this.summonerPuuidCache = summonerPuuidCache;
+		listenerContainer.addMessageListener(this, new ChannelTopic(SpellCoolDownRedisKeys.SUMMONER_EVICTED_CHANNEL));
+	}
+
+	/**
+	 * 이 노드의 캐시를 비우고 다른 노드에 무효화를 알림
+	 * 발행에 실패해도 이미 커밋된 트랜잭션에는 영향을 주지 않고, 다른 노드는 캐시 TTL 이 지나면 새 값을 읽는다
+	 */
+	public void evict(Long summonerId) {
+		summonerPuuidCache.evict(summonerId);
+		try {
+			spellRedisTemplate.convertAndSend(SpellCoolDownRedisKeys.SUMMONER_EVICTED_CHANNEL,
+				SpellCoolDownRedisKeys.NODE_ID + "|" + summonerId);
+		}
+		catch(RuntimeException ex) {
+			log.warn("소환사 캐시 무효화 전파 실패 summonerId={}", summonerId, ex);
+		}
+	}
+
+	// 메시지 형식 "노드ID|소환사ID"
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] tokens = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+		if(tokens.length != 2 || SpellCoolDownRedisKeys.NODE_ID.equals(tokens[0])) {
+			return;
+		}
+
+		try {
+			summonerPuuidCache.evict(Long.valueOf(tokens[1]));
+		}
+		catch(NumberFormatException ex) {
+			log.warn("잘못된 소환사 캐시 무효화 메시지 {}", tokens[1]);
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+package lolpago.spell.infrastructure.riot;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lolpago.common.exception.type.NotFoundException;
+import lolpago.region.Region;
+import lolpago.spell.application.roster.SpectatorRoster;
+
+/**
+ * Riot 현재 게임 정보(spectator-v5) API 의 비동기 클라이언트
+ * 지역별로 HTTP/2 지원 HttpClient 를 하나씩 두어 지역별 keep-alive 커넥션 풀을 재사용하고,
+ * 요청 스레드를 막지 않고 CompletableFuture 로 결과를 돌려준다
+ * 모든 요청은 RiotRateLimiter 의 지역 토큰을 얻은 뒤에만 보낸다
+ * 응답은 SpectatorRosterDecoder 로 스펠 체크에 필요한 필드만 읽는다
+ */
+@Component
+public class AsyncRiotSpectatorClient {
+	private static final String SPECTATOR_PATH = "/lol/spectator/v5/active-games/by-summoner/";
+	private static final String RIOT_TOKEN_HEADER = "X-Riot-Token";
+	// Region 상수 이름 -> Riot 플랫폼 호스트 ID (상수 이름과 호스트가 다른 지역이 많아 명시적으로 매핑)
+	private static final Map<String, String> PLATFORM_BY_REGION = Map.ofEntries(
+		Map.entry("KR", "kr"),
+		Map.entry("JP", "jp1"),
+		Map.entry("NA", "na1"),
+		Map.entry("EUW", "euw1"),
+		Map.entry("EUNE", "eun1"),
+		Map.entry("BR", "br1"),
+		Map.entry("LAN", "la1"),
+		Map.entry("LAS", "la2"),
+		Map.entry("OCE", "oc1"),
+		Map.entry("TR", "tr1"),
+		Map.entry("RU", "ru"),
+		Map.entry("ME", "me1"),
+		Map.entry("PH", "ph2"),
+		Map.entry("SG", "sg2"),
+		Map.entry("TH", "th2"),
+		Map.entry("TW", "tw2"),
+		Map.entry("VN", "vn2")
+	);
+
+	private final Map<Region, HttpClient> httpClients = new ConcurrentHashMap<>();
+	private final RiotRateLimiter riotRateLimiter;
+	private final SpectatorRosterDecoder spectatorRosterDecoder;
+	// 지역 플랫폼 호스트 ID 가 들어갈 기본 URL 형식, 로컬 스텁 서버로 바꿀 수 있다
+	private final String baseUrlTemplate;
+	private final String apiKey;
+	private final Duration connectTimeout;
+	private final Duration requestTimeout;
+
+	public AsyncRiotSpectatorClient(RiotRateLimiter riotRateLimiter, SpectatorRosterDecoder spectatorRosterDecoder,
+		@Value("${spell.riot.base-url-template:https://%s.api.riotgames.com}") String baseUrlTemplate,
+		@Value("${spell.riot.api-key:${riot.api.key:}}") String apiKey,
+		@Value("${spell.riot.connect-timeout-millis:1000}") long connectTimeoutMillis,
+		@Value("${spell.riot.request-timeout-millis:3000}") long requestTimeoutMillis
+	) {
+		this.riotRateLimiter = riotRateLimiter;
+		this.spectatorRosterDecoder = spectatorRosterDecoder;
+		this.baseUrlTemplate = baseUrlTemplate;
+		// 키가 없으면 모든 호출이 401/403 으로 실패하므로 시작 시점에 실패
+		if(apiKey == null || apiKey.isBlank()) {
+			throw new IllegalStateException("Riot API 키가 설정되지 않았습니다 (riot.api.key 또는 spell.riot.api-key)");
+		}
+		this.apiKey = apiKey;
+		this.connectTimeout = Duration.ofMillis(connectTimeoutMillis);
+		this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+	}
+
+	/**
+	 * 소환사가 진행 중인 게임의 참가자 로스터 조회
+	 * 게임 중이 아니면(404) NotFoundException,
+	 * 요청 한도를 넘으면(로컬 리미터 거절 또는 Riot 429) RiotRateLimitExceededException,
+	 * 그 밖의 실패(인증 실패, 5xx, 빈 응답, 해석 실패)는 RiotSpectatorUnavailableException 으로 완료
+	 */
+	public CompletableFuture<SpectatorRoster> getSpectatorRoster(String puuid, Region region) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl(region) + SPECTATOR_PATH + puuid))
+			.timeout(requestTimeout)
+			.header(RIOT_TOKEN_HEADER, apiKey)
+			.header("Accept", "application/json")
+			.GET()
+			.build();
+
+		return riotRateLimiter.acquire(region)
+			.thenCompose(ignored -> httpClient(region).sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+			.thenApply(response -> toRoster(region, response));
+	}
+
+	private SpectatorRoster toRoster(Region region, HttpResponse<byte[]> response) {
+		// 응답 헤더로 지역 한도 갱신
+		riotRateLimiter.onResponse(region, response.statusCode(), response.headers());
+		if(response.statusCode() == 429) {
+			throw new RiotRateLimitExceededException(riotRateLimiter.retryAfterMillis(region));
+		}
+
+		// 진행 중인 게임 없음
+		if(response.statusCode() == 404) {
+			throw new NotFoundException(SPECTATOR_CURRENT_GAME_INFO_NOT_FOUND_MESSAGE);
+		}
+
+		// 게임 종료가 아닌 API 실패 또는 응답 없음
+		if(response.statusCode() / 100 != 2 || response.body() == null || response.body().length == 0) {
+			throw new RiotSpectatorUnavailableException();
+		}
+
+		try {
+			return spectatorRosterDecoder.decode(response.body());
+		}
+		catch (IOException ex) {
+			throw new RiotSpectatorUnavailableException(ex);
+		}
+	}
+
+	// 지역별 HttpClient (지역별 커넥션 풀), 처음 사용할 때 생성
+	private HttpClient httpClient(Region region) {
+		return httpClients.computeIfAbsent(region, key -> HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(connectTimeout)
+			.build());
+	}
+
+	private String baseUrl(Region region) {
+		String platform = PLATFORM_BY_REGION.get(region.name());
+		if(platform == null) {
+			throw new IllegalArgumentException("Riot 플랫폼 호스트가 없는 지역입니다: " + region);
+		}
+		return String.format(baseUrlTemplate, platform);
+	}
+
+}
@@ -0,0 +1,21 @@
+package lolpago.spell.infrastructure.riot;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+import lombok.Getter;
+
+/**
+ * Riot API 요청 한도를 넘어 요청을 보내지 않고 거절한 경우 (RIOT_RATE_LIMIT_EXCEEDED_MESSAGE)
+ * 클라이언트는 retryAfterMillis 후 다시 시도할 수 있다
+ */
+@Getter
+public class RiotRateLimitExceededException extends RuntimeException {
+
+	private final long retryAfterMillis;
+
+	public RiotRateLimitExceededException(long retryAfterMillis) {
+		super(RIOT_RATE_LIMIT_EXCEEDED_MESSAGE.getMessage());
+		this.retryAfterMillis = retryAfterMillis;
+	}
+
+}
@@ -0,0 +1,242 @@
+package lolpago.spell.infrastructure.riot;
+
+import java.net.http.HttpHeaders;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lolpago.region.Region;
+
+/**
+ * 지역별 Riot API 앱 요청 한도를 지키는 토큰 버킷 리미터
+ * Riot 응답의 X-App-Rate-Limit(-Count), X-Method-Rate-Limit(-Count) 헤더로 한도와 남은 토큰을 맞추고,
+ * 429 응답의 Retry-After 동안은 해당 지역 요청을 보내지 않는다
+ * 토큰이 없으면 대기 예산 안에서만 순서대로 기다리고, 예산을 넘으면 즉시 RiotRateLimitExceededException 으로 거절
+ */
+@Component
+public class RiotRateLimiter {
+	private static final String APP_SOURCE = "app";
+	private static final String METHOD_SOURCE = "method";
+	// Retry-After 없이 429 를 받은 경우(서비스 한도) 잠시 쉬는 시간
+	private static final long DEFAULT_RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final Map<Region, RegionBucket> buckets = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	// Riot 헤더와 같은 형식의 초기 한도 "요청수:초,요청수:초" (첫 응답 전까지 사용)
+	private final String defaultRateLimit;
+	private final long maxQueueNanos;
+
+	public RiotRateLimiter(MeterRegistry meterRegistry,
+		@Value("${spell.riot.rate-limit.default:20:1,100:120}") String defaultRateLimit,
+		@Value("${spell.riot.rate-limit.max-queue-millis:500}") long maxQueueMillis
+	) {
+		this.meterRegistry = meterRegistry;
+		this.defaultRateLimit = defaultRateLimit;
+		this.maxQueueNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueMillis);
+	}
+
+	/**
+	 * 지역 토큰 하나 획득
+	 * 바로 보낼 수 있으면 완료된 future, 대기 예산 안이면 차례가 되었을 때 완료되는 future,
+	 * 예산을 넘으면 RiotRateLimitExceededException 으로 실패한 future 반환
+	 */
+	public CompletableFuture<Void> acquire(Region region) {
+		RegionBucket bucket = bucket(region);
+		long waitNanos = bucket.reserve(System.nanoTime(), maxQueueNanos);
+
+		if(waitNanos > maxQueueNanos) {
+			bucket.rejected.increment();
+			return CompletableFuture.failedFuture(
+				new RiotRateLimitExceededException(TimeUnit.NANOSECONDS.toMillis(waitNanos))
+			);
+		}
+
+		bucket.queueWait.record(waitNanos, TimeUnit.NANOSECONDS);
+		if(waitNanos == 0) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return CompletableFuture.runAsync(() -> { },
+			CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * Riot 응답 헤더로 지역 버킷의 한도와 남은 토큰을 서버 기준으로 맞춘다
+	 * 429 응답이면 Retry-After 동안 지역 요청을 막는다
+	 */
+	public void onResponse(Region region, int statusCode, HttpHeaders headers) {
+		RegionBucket bucket = bucket(region);
+		long now = System.nanoTime();
+
+		headers.firstValue("X-App-Rate-Limit").ifPresent(limits ->
+			bucket.sync(APP_SOURCE, limits, headers.firstValue("X-App-Rate-Limit-Count").orElse(null), now));
+		headers.firstValue("X-Method-Rate-Limit").ifPresent(limits ->
+			bucket.sync(METHOD_SOURCE, limits, headers.firstValue("X-Method-Rate-Limit-Count").orElse(null), now));
+
+		if(statusCode == 429) {
+			long retryAfterNanos = headers.firstValue("Retry-After")
+				.map(this::parseRetryAfterNanos)
+				.orElse(DEFAULT_RETRY_AFTER_NANOS);
+			bucket.blockUntil(now + retryAfterNanos);
+		}
+	}
+
+	// 지역 요청이 다시 가능해질 때까지 남은 시간
+	public long retryAfterMillis(Region region) {
+		return TimeUnit.NANOSECONDS.toMillis(bucket(region).waitNanos(System.nanoTime()));
+	}
+
+	private long parseRetryAfterNanos(String retryAfter) {
+		try {
+			return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+		}
+		catch (NumberFormatException ex) {
+			return DEFAULT_RETRY_AFTER_NANOS;
+		}
+	}
+
+	// 지역 버킷, 처음 사용할 때 생성하고 지표 등록
+	private RegionBucket bucket(Region region) {
+		return buckets.computeIfAbsent(region, key -> {
+			RegionBucket bucket = new RegionBucket(
+				Counter.builder("spell.riot.ratelimit.rejected")
+					.tag("region", key.name())
+					.register(meterRegistry),
+				Timer.builder("spell.riot.ratelimit.wait")
+					.tag("region", key.name())
+					.register(meterRegistry)
+			);
+			bucket.sync(APP_SOURCE, defaultRateLimit, null, System.nanoTime());
+			Gauge.builder("spell.riot.ratelimit.fill", bucket, RegionBucket::fillRatio)
+				.tag("region", key.name())
+				.register(meterRegistry);
+			return bucket;
+		});
+	}
+
+	/**
+	 * 한 지역의 한도 창(window)들, 요청은 모든 창에서 토큰을 하나씩 쓴다
+	 * 대기 중인 요청은 토큰을 미리 예약(음수 잔량)하므로 뒤에 온 요청일수록 오래 기다린다
+	 */
+	private static final class RegionBucket {
+		// "app:120", "method:10" 처럼 출처와 창 길이(초)로 구분
+		private final Map<String, Window> windows = new LinkedHashMap<>();
+		private final Counter rejected;
+		private final Timer queueWait;
+		private long blockedUntilNanos = Long.MIN_VALUE;
+
+		private RegionBucket(Counter rejected, Timer queueWait) {
+			this.rejected = rejected;
+			this.queueWait = queueWait;
+		}
+
+		// 기다릴 시간을 계산하고, 예산 안이면 토큰 예약
+		private synchronized long reserve(long now, long maxWaitNanos) {
+			long waitNanos = waitNanos(now);
+			if(waitNanos <= maxWaitNanos) {
+				windows.values().forEach(window -> window.tokens -= 1);
+			}
+			return waitNanos;
+		}
+
+		private synchronized long waitNanos(long now) {
+			long waitNanos = Math.max(0, blockedUntilNanos - now);
+			for(Window window : windows.values()) {
+				window.refill(now);
+				waitNanos = Math.max(waitNanos, window.waitNanos());
+			}
+			return waitNanos;
+		}
+
+		private synchronized void blockUntil(long untilNanos) {
+			blockedUntilNanos = Math.max(blockedUntilNanos, untilNanos);
+		}
+
+		// 한도 헤더("20:1,100:120")와 사용량 헤더("3:1,45:120")로 창 갱신, 서버가 더 적게 남았다고 하면 그 값을 따른다
+		private synchronized void sync(String source, String limits, String counts, long now) {
+			Map<Long, Long> countBySeconds = new LinkedHashMap<>();
+			for(long[] count : parse(counts)) {
+				countBySeconds.put(count[1], count[0]);
+			}
+
+			for(long[] limit : parse(limits)) {
+				Window window = windows.computeIfAbsent(source + ":" + limit[1],
+					key -> new Window(limit[0], TimeUnit.SECONDS.toNanos(limit[1]), now));
+				window.refill(now);
+				window.limit = limit[0];
+				Long used = countBySeconds.get(limit[1]);
+				window.tokens = Math.min(window.tokens, used == null ? window.limit : window.limit - used);
+			}
+		}
+
+		// 가장 빠듯한 창의 남은 토큰 비율 (0 이하면 대기 중)
+		private synchronized double fillRatio() {
+			long now = System.nanoTime();
+			double ratio = 1.0;
+			for(Window window : windows.values()) {
+				window.refill(now);
+				ratio = Math.min(ratio, window.tokens / window.limit);
+			}
+			return ratio;
+		}
+
+		// "요청수:초" 쌍 목록 파싱, 잘못된 항목은 무시
+		private static List<long[]> parse(String header) {
+			if(header == null || header.isBlank()) {
+				return List.of();
+			}
+
+			return Arrays.stream(header.split(","))
+				.map(pair -> pair.trim().split(":"))
+				.filter(pair -> pair.length == 2)
+				.map(pair -> {
+					try {
+						return new long[] {Long.parseLong(pair[0].trim()), Long.parseLong(pair[1].trim())};
+					}
+					catch (NumberFormatException ex) {
+						return null;
+					}
+				})
+				.filter(pair -> pair != null && pair[0] > 0 && pair[1] > 0)
+				.toList();
+		}
+	}
+
+	/**
+	 * windowNanos 동안 limit 개를 허용하는 토큰 버킷 (연속 보충)
+	 */
+	private static final class Window {
+		private final long windowNanos;
+		private long limit;
+		private double tokens;
+		private long lastRefillNanos;
+
+		private Window(long limit, long windowNanos, long now) {
+			this.limit = limit;
+			this.windowNanos = windowNanos;
+			this.tokens = limit;
+			this.lastRefillNanos = now;
+		}
+
+		private void refill(long now) {
+			tokens = Math.min(limit, tokens + (double) (now - lastRefillNanos) * limit / windowNanos);
+			lastRefillNanos = now;
+		}
+
+		// 토큰 하나가 생길 때까지 남은 시간
+		private long waitNanos() {
+			return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * windowNanos / limit);
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package lolpago.spell.infrastructure.riot;
+
+import static lolpago.common.exception.ExceptionMessage.*;
+
+/**
+ * Riot 현재 게임 정보 API 가 게임 종료(404)나 요청 한도 초과가 아닌 이유로 실패한 경우 (RIOT_SPECTATOR_UNAVAILABLE_MESSAGE)
+ * (인증 실패, 5xx, 빈 응답, 응답 해석 실패) 게임이 끝난 것이 아니므로 캐시된 게임 정보는 유지한다
+ */
+public class RiotSpectatorUnavailableException extends RuntimeException {
+
+	public RiotSpectatorUnavailableException() {
+		super(RIOT_SPECTATOR_UNAVAILABLE_MESSAGE.getMessage());
+	}
+
+	public RiotSpectatorUnavailableException(Throwable cause) {
+		super(RIOT_SPECTATOR_UNAVAILABLE_MESSAGE.getMessage(), cause);
+	}
+
+}
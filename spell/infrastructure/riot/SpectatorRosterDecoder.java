@@ -0,0 +1,141 @@
+package lolpago.spell.infrastructure.riot;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lolpago.spell.application.roster.SpectatorRoster;
+
+/**
+ * Riot 현재 게임 정보(spectator-v5) 응답을 스트리밍으로 읽어 SpectatorRoster 로 변환
+ * gameId 와 참가자의 puuid, teamId, championId, spell1Id, spell2Id 만 읽고,
+ * perks, bannedChampions, observers, gameCustomizationObjects 등 나머지는 값을 만들지 않고 건너뛴다
+ */
+@Component
+public class SpectatorRosterDecoder {
+	// 한 게임의 일반적인 참가자 수, 더 많으면 배열을 늘린다
+	private static final int INITIAL_CAPACITY = 10;
+
+	private final JsonFactory jsonFactory;
+
+	public SpectatorRosterDecoder(ObjectMapper objectMapper) {
+		this.jsonFactory = objectMapper.getFactory();
+	}
+
+	/**
+	 * 응답 본문을 로스터로 변환, 최상위가 객체가 아니거나 양수 gameId 가 없으면 JsonParseException
+	 * (gameId 가 없는 로스터를 캐시하면 서로 다른 게임이 같은 세션 키를 공유하게 된다)
+	 */
+	public SpectatorRoster decode(byte[] body) throws IOException {
+		try(JsonParser parser = jsonFactory.createParser(body)) {
+			if(parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "spectator response must be a JSON object");
+			}
+
+			long gameId = 0;
+			RosterBuilder roster = new RosterBuilder();
+			while(parser.nextToken() == JsonToken.FIELD_NAME) {
+				// 필드 이름은 파서가 심볼 테이블로 재사용하므로 새 문자열이 생기지 않는다
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if("gameId".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+					gameId = parser.getLongValue();
+				}
+				else if("participants".equals(field) && value == JsonToken.START_ARRAY) {
+					readParticipants(parser, roster);
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+
+			if(gameId <= 0) {
+				throw new JsonParseException(parser, "spectator response must contain a positive gameId");
+			}
+			return roster.build(gameId);
+		}
+	}
+
+	private void readParticipants(JsonParser parser, RosterBuilder roster) throws IOException {
+		JsonToken token;
+		while((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if(token != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+
+			String puuid = null;
+			long teamId = 0;
+			long championId = 0;
+			long spell1Id = 0;
+			long spell2Id = 0;
+			while(parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if(value == JsonToken.VALUE_NUMBER_INT) {
+					switch(field) {
+						case "teamId" -> teamId = parser.getLongValue();
+						case "championId" -> championId = parser.getLongValue();
+						case "spell1Id" -> spell1Id = parser.getLongValue();
+						case "spell2Id" -> spell2Id = parser.getLongValue();
+						default -> { }
+					}
+				}
+				else if(value == JsonToken.VALUE_STRING && "puuid".equals(field)) {
+					puuid = parser.getText();
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+
+			// 팀 ID 가 없는 참가자는 상대 팀을 구할 수 없으므로 제외
+			if(teamId != 0) {
+				roster.add(puuid, teamId, championId, spell1Id, spell2Id);
+			}
+		}
+	}
+
+	private static final class RosterBuilder {
+		private String[] puuids = new String[INITIAL_CAPACITY];
+		private long[] teamIds = new long[INITIAL_CAPACITY];
+		private long[] championIds = new long[INITIAL_CAPACITY];
+		private long[] spell1Ids = new long[INITIAL_CAPACITY];
+		private long[] spell2Ids = new long[INITIAL_CAPACITY];
+		private int size;
+
+		private void add(String puuid, long teamId, long championId, long spell1Id, long spell2Id) {
+			if(size == puuids.length) {
+				int capacity = size * 2;
+				puuids = Arrays.copyOf(puuids, capacity);
+				teamIds = Arrays.copyOf(teamIds, capacity);
+				championIds = Arrays.copyOf(championIds, capacity);
+				spell1Ids = Arrays.copyOf(spell1Ids, capacity);
+				spell2Ids = Arrays.copyOf(spell2Ids, capacity);
+			}
+			puuids[size] = puuid;
+			teamIds[size] = teamId;
+			championIds[size] = championId;
+			spell1Ids[size] = spell1Id;
+			spell2Ids[size] = spell2Id;
+			size++;
+		}
+
+		// 참가자 수에 맞춘 배열로 로스터 생성 (대부분 10명이라 복사 없이 그대로 사용)
+		private SpectatorRoster build(long gameId) {
+			if(size == puuids.length) {
+				return new SpectatorRoster(gameId, puuids, teamIds, championIds, spell1Ids, spell2Ids);
+			}
+			return new SpectatorRoster(gameId, Arrays.copyOf(puuids, size), Arrays.copyOf(teamIds, size),
+				Arrays.copyOf(championIds, size), Arrays.copyOf(spell1Ids, size), Arrays.copyOf(spell2Ids, size));
+		}
+	}
+
+}
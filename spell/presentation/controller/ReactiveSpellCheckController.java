@@ -0,0 +1,163 @@
+package lolpago.spell.presentation.controller;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.ValidationException;
+import lolpago.spell.application.command.SpellAlertCommand;
+import lolpago.spell.application.command.SpellCoolDownAdjustCommand;
+import lolpago.spell.application.command.SpellCoolDownCommand;
+import lolpago.spell.application.service.ReactiveSpellCheckService;
+import lolpago.spell.presentation.request.SpellBatchCheckRequest;
+import lolpago.spell.presentation.request.SpellCheckRequest;
+import lolpago.spell.presentation.request.SpellCoolDownAdjustRequest;
+import lolpago.spell.presentation.request.SpellSessionRequest;
+import lolpago.spell.presentation.response.SpellAlertResponse;
+import lolpago.spell.presentation.response.SpellCheckResponse;
+import lolpago.spell.presentation.response.SpellCoolDownRemainingResponse;
+import lolpago.spell.presentation.response.SpellCoolDownResponse;
+import lolpago.spell.presentation.sse.ReactiveSpellAlertSinkRegistry;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 스펠 체크 관련 요청을 처리하는 리액티브 REST 컨트롤러 (reactive 프로필)
+ * reactive 프로필은 빈만 교체하므로, 기본 설정에서는 Tomcat(servlet 스택) 위에서 Spring MVC 가 Mono/Flux 반환값을 비동기로 처리한다
+ * 이벤트 루프에서 실행하려면 spring-webflux 와 spring.main.web-application-type=reactive 가 필요한데,
+ * 다른 lolpago 모듈의 MVC 컨트롤러가 함께 멈추므로 스펠만 서빙하는 배포에서만 사용할 수 있다
+ */
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("/spell")
+public class ReactiveSpellCheckController {
+
+	private final ReactiveSpellCheckService reactiveSpellCheckService;
+	private final ReactiveSpellAlertSinkRegistry reactiveSpellAlertSinkRegistry;
+
+	/**
+	 * WBE-python 으로부터 "<챔피언이름> <스펠이름>" 텍스트 요청을 받아 스펠 체크 수행
+	 * 유효성 검사 실패 시 400 (MethodArgumentNotValidException)
+	 */
+	@PostMapping
+	public Mono<ResponseEntity<SpellCheckResponse>> checkSpell(@Validated @RequestBody SpellCheckRequest request) {
+		return reactiveSpellCheckService.championSpellCheck(request.toCommand())
+			.map(spellCheckResult ->
+				ResponseEntity.status(HttpStatus.CREATED).body(SpellCheckResponse.from(spellCheckResult)));
+	}
+
+	/**
+	 * 한 발화에 여러 스펠이 담긴 경우("제드 점멸 아리 점멸 럭스 회복") 또는 여러 텍스트를 한 번에 스펠 체크
+	 */
+	@PostMapping("/batch")
+	public Mono<ResponseEntity<List<SpellCheckResponse>>> checkSpells(@Validated @RequestBody SpellBatchCheckRequest request) {
+		return reactiveSpellCheckService.championSpellBatchCheck(request.toCommand())
+			.map(spellCheckResults -> ResponseEntity.status(HttpStatus.CREATED)
+				.body(spellCheckResults.stream().map(SpellCheckResponse::from).toList()));
+	}
+
+	/**
+	 * 잘못 인식되어 등록된 스펠 쿨타임 취소, 해당 쿨타임의 대기 요청은 취소 메시지와 함께 바로 응답
+	 */
+	@DeleteMapping
+	public Mono<ResponseEntity<Void>> cancelSpellCoolDown(
+		@RequestParam Long summonerId,
+		@RequestParam String championName,
+		@RequestParam String spellName) {
+		return reactiveSpellCheckService.cancelCoolDown(new SpellCoolDownCommand(summonerId, championName, spellName))
+			.thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).<Void>build());
+	}
+
+	/**
+	 * "점멸 30초 남음" 텍스트로 등록된 스펠 쿨타임의 남은 시간 조정
+	 */
+	@PatchMapping
+	public Mono<ResponseEntity<SpellCoolDownRemainingResponse>> adjustSpellCoolDown(
+		@Validated @RequestBody SpellCoolDownAdjustRequest request) {
+		// 유효성 검사
+		if(!SpellCoolDownAdjustCommand.isValidText(request.finalText())) {
+			return Mono.error(new ValidationException());
+		}
+
+		return reactiveSpellCheckService.adjustCoolDown(request.toCommand())
+			.map(spellCoolDownRemainingResult -> ResponseEntity.status(HttpStatus.OK)
+				.body(SpellCoolDownRemainingResponse.from(spellCoolDownRemainingResult)));
+	}
+
+	/**
+	 * WBE-python 이 음성 세션을 열거나 처음 발화를 감지했을 때 호출
+	 * 현재 게임 정보를 미리 조회해 첫 스펠 체크가 캐시를 사용하도록 한다
+	 */
+	@PostMapping("/session")
+	public Mono<ResponseEntity<Void>> prewarmSession(@Validated @RequestBody SpellSessionRequest request) {
+		return reactiveSpellCheckService.prewarmSession(request.toCommand())
+			.thenReturn(ResponseEntity.status(HttpStatus.ACCEPTED).<Void>build());
+	}
+
+	/**
+	 * Redis 에서 해당 스펠 쿨타임이 끝났는지 확인하는 대기 요청
+	 * 대기 중에는 요청 스레드나 이벤트 루프 스레드를 점유하지 않는다
+	 */
+	@GetMapping("/await")
+	public Mono<ResponseEntity<SpellCoolDownResponse>> awaitSpellCoolDown(
+		@RequestParam Long summonerId,
+		@RequestParam String championName,
+		@RequestParam String spellName) {
+
+		return reactiveSpellCheckService.championSpellCoolDown(new SpellCoolDownCommand(summonerId, championName, spellName))
+			.map(spellCoolDownResult ->
+				ResponseEntity.status(HttpStatus.OK).body(SpellCoolDownResponse.from(spellCoolDownResult)));
+	}
+
+	/**
+	 * 마지막으로 받은 알림(lastId) 이후의 쿨타임 만료 알림 조회
+	 */
+	@GetMapping("/alerts")
+	public Mono<ResponseEntity<List<SpellAlertResponse>>> getSpellAlerts(
+		@RequestParam Long summonerId,
+		@RequestParam(required = false) String lastId) {
+		// 유효성 검사
+		if(!SpellAlertCommand.isValidAlertId(lastId)) {
+			return Mono.error(new ValidationException());
+		}
+
+		return reactiveSpellCheckService.findAlerts(SpellAlertCommand.of(summonerId, lastId))
+			.map(spellAlertResults -> ResponseEntity.status(HttpStatus.OK)
+				.body(spellAlertResults.stream().map(SpellAlertResponse::from).toList()));
+	}
+
+	/**
+	 * 소환사의 진행 중인 모든 스펠 쿨타임과 남은 시간(ms) 조회
+	 */
+	@GetMapping("/cooldowns")
+	public Mono<ResponseEntity<List<SpellCoolDownRemainingResponse>>> getSpellCoolDowns(@RequestParam Long summonerId) {
+		return reactiveSpellCheckService.findCoolDowns(summonerId)
+			.map(spellCoolDownRemainingResults -> ResponseEntity.status(HttpStatus.OK)
+				.body(spellCoolDownRemainingResults.stream().map(SpellCoolDownRemainingResponse::from).toList()));
+	}
+
+	/**
+	 * 소환사의 모든 스펠 쿨타임 알림을 하나의 SSE 연결로 전달
+	 * 쿨타임 등록 시 "registered", 쿨타임 종료 시 "available", 쿨타임 취소 시 "cancelled" 이벤트
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<Object>> streamSpellAlerts(@RequestParam Long summonerId) {
+		return reactiveSpellAlertSinkRegistry.subscribe(summonerId);
+	}
+
+}
@@ -1,35 +1,60 @@
 package lolpago.spell.presentation.controller;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.ValidationException;
+import lolpago.spell.application.command.SpellAlertCommand;
+import lolpago.spell.application.command.SpellCoolDownAdjustCommand;
 import lolpago.spell.application.command.SpellCoolDownCommand;
+import lolpago.spell.application.result.SpellAlertResult;
 import lolpago.spell.application.result.SpellCheckResult;
+import lolpago.spell.application.result.SpellCoolDownRemainingResult;
 import lolpago.spell.application.result.SpellCoolDownResult;
 import lolpago.spell.application.service.SpellCheckService;
+import lolpago.spell.presentation.request.SpellBatchCheckRequest;
 import lolpago.spell.presentation.request.SpellCheckRequest;
+import lolpago.spell.presentation.request.SpellCoolDownAdjustRequest;
+import lolpago.spell.presentation.request.SpellSessionRequest;
+import lolpago.spell.presentation.response.SpellAlertResponse;
 import lolpago.spell.presentation.response.SpellCheckResponse;
+import lolpago.spell.presentation.response.SpellCoolDownRemainingResponse;
 import lolpago.spell.presentation.response.SpellCoolDownResponse;
+import lolpago.spell.presentation.sse.SpellAlertEmitterRegistry;
 import lombok.RequiredArgsConstructor;
 
 /**
  * 스펠 체크 관련 요청을 처리하는 REST 컨트롤러
+ * reactive 프로필에서는 ReactiveSpellCheckController 가 대신 사용된다
  */
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 @RequestMapping("/spell")
 public class SpellCheckController {
 
+	private static final long AWAIT_TIMEOUT_MARGIN_MILLIS = 10_000L;
+
 	private final SpellCheckService spellCheckService;
+	private final SpellAlertEmitterRegistry spellAlertEmitterRegistry;
 
 	/**
 	 * WBE-python 으로부터 "<챔피언이름> <스펠이름>" 텍스트 요청을 받아 스펠 체크 수행
@@ -47,21 +72,144 @@ public class SpellCheckController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(SpellCheckResponse.from(spellCheckResult));
 	}
 
+	/**
+	 * 한 발화에 여러 스펠이 담긴 경우("제드 점멸 아리 점멸 럭스 회복") 또는 여러 텍스트를 한 번에 스펠 체크
+	 * 추출된 모든 쿨타임을 한 번의 Redis 왕복으로 등록
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<List<SpellCheckResponse>> checkSpells(@Validated @RequestBody SpellBatchCheckRequest request,
+		BindingResult bindingResult) {
+		// 유효성 검사
+		if(bindingResult.hasErrors()) {
+			throw new ValidationException();
+		}
+
+		List<SpellCheckResult> spellCheckResults = spellCheckService.championSpellBatchCheck(request.toCommand());
+
+		return ResponseEntity.status(HttpStatus.CREATED)
+			.body(spellCheckResults.stream().map(SpellCheckResponse::from).toList());
+	}
+
+	/**
+	 * 잘못 인식되어 등록된 스펠 쿨타임 취소 (예: 점화를 "점멸"로 인식)
+	 * 해당 쿨타임을 기다리던 대기 요청은 취소 메시지와 함께 바로 응답
+	 */
+	@DeleteMapping
+	public ResponseEntity<Void> cancelSpellCoolDown(
+		@RequestParam Long summonerId,
+		@RequestParam String championName,
+		@RequestParam String spellName) {
+
+		spellCheckService.cancelCoolDown(new SpellCoolDownCommand(summonerId, championName, spellName));
+
+		return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+	}
+
+	/**
+	 * "점멸 30초 남음", "제드 점멸 1분 남음" 텍스트로 등록된 스펠 쿨타임의 남은 시간 조정
+	 * 해당 쿨타임을 기다리던 대기 요청은 조정된 시각에 응답
+	 */
+	@PatchMapping
+	public ResponseEntity<SpellCoolDownRemainingResponse> adjustSpellCoolDown(
+		@Validated @RequestBody SpellCoolDownAdjustRequest request,
+		BindingResult bindingResult) {
+		// 유효성 검사
+		if(bindingResult.hasErrors() || !SpellCoolDownAdjustCommand.isValidText(request.finalText())) {
+			throw new ValidationException();
+		}
+
+		SpellCoolDownRemainingResult spellCoolDownRemainingResult = spellCheckService.adjustCoolDown(request.toCommand());
+
+		return ResponseEntity.status(HttpStatus.OK).body(SpellCoolDownRemainingResponse.from(spellCoolDownRemainingResult));
+	}
+
+	/**
+	 * WBE-python 이 음성 세션을 열거나 처음 발화를 감지했을 때 호출
+	 * 현재 게임 정보를 미리 조회해 첫 스펠 체크가 캐시를 사용하도록 한다
+	 */
+	@PostMapping("/session")
+	public ResponseEntity<Void> prewarmSession(@Validated @RequestBody SpellSessionRequest request,
+		BindingResult bindingResult) {
+		// 유효성 검사
+		if(bindingResult.hasErrors()) {
+			throw new ValidationException();
+		}
+
+		spellCheckService.prewarmSession(request.toCommand());
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+	}
+
 	/**
 	 * Redis 에서 해당 스펠 쿨타임이 끝났는지 확인하는 대기 요청
-	 * 클라이언트는 일정 시간 동안 쿨타임 키가 사라지기를 대기
+	 * 클라이언트는 일정 시간 동안 쿨타임 키가 만료되기를 대기
+	 * 대기 중에는 요청 스레드를 점유하지 않고, 키 만료 이벤트를 받으면 응답
 	 */
 	@GetMapping("/await")
-	public ResponseEntity<SpellCoolDownResponse> awaitSpellCoolDown(
+	public DeferredResult<ResponseEntity<SpellCoolDownResponse>> awaitSpellCoolDown(
 		@RequestParam Long summonerId,
 		@RequestParam String championName,
 		@RequestParam String spellName) {
 
-		SpellCoolDownResult spellCoolDownResult = spellCheckService.championSpellCoolDown(
+		CompletableFuture<SpellCoolDownResult> spellCoolDownResult = spellCheckService.championSpellCoolDown(
 			new SpellCoolDownCommand(summonerId, championName, spellName)
 		);
 
-		return ResponseEntity.status(HttpStatus.OK).body(SpellCoolDownResponse.from(spellCoolDownResult));
+		// 서비스의 대기 제한 시간이 먼저 적용되도록 여유 시간을 둔다
+		DeferredResult<ResponseEntity<SpellCoolDownResponse>> deferredResult =
+			new DeferredResult<>(SpellCheckService.COOL_DOWN_TIMEOUT_MILLIS + AWAIT_TIMEOUT_MARGIN_MILLIS);
+		deferredResult.onTimeout(() -> spellCoolDownResult.cancel(false));
+		deferredResult.onError(ex -> spellCoolDownResult.cancel(false));
+
+		spellCoolDownResult.whenComplete((result, ex) -> {
+			if(ex != null) {
+				deferredResult.setErrorResult(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+				return;
+			}
+			deferredResult.setResult(ResponseEntity.status(HttpStatus.OK).body(SpellCoolDownResponse.from(result)));
+		});
+
+		return deferredResult;
+	}
+
+	/**
+	 * 마지막으로 받은 알림(lastId) 이후의 쿨타임 만료 알림 조회
+	 * 연결을 붙잡고 기다리지 않으므로 재연결하거나 서버가 재시작되어도 알림을 놓치지 않는다
+	 */
+	@GetMapping("/alerts")
+	public ResponseEntity<List<SpellAlertResponse>> getSpellAlerts(
+		@RequestParam Long summonerId,
+		@RequestParam(required = false) String lastId) {
+		// 유효성 검사
+		if(!SpellAlertCommand.isValidAlertId(lastId)) {
+			throw new ValidationException();
+		}
+
+		List<SpellAlertResult> spellAlertResults = spellCheckService.findAlerts(SpellAlertCommand.of(summonerId, lastId));
+
+		return ResponseEntity.status(HttpStatus.OK)
+			.body(spellAlertResults.stream().map(SpellAlertResponse::from).toList());
+	}
+
+	/**
+	 * 소환사의 진행 중인 모든 스펠 쿨타임과 남은 시간(ms) 조회
+	 * 대기하지 않고 바로 응답하므로 클라이언트는 남은 시간으로 카운트다운을 직접 그린다
+	 */
+	@GetMapping("/cooldowns")
+	public ResponseEntity<List<SpellCoolDownRemainingResponse>> getSpellCoolDowns(@RequestParam Long summonerId) {
+		List<SpellCoolDownRemainingResult> spellCoolDownRemainingResults = spellCheckService.findCoolDowns(summonerId);
+
+		return ResponseEntity.status(HttpStatus.OK)
+			.body(spellCoolDownRemainingResults.stream().map(SpellCoolDownRemainingResponse::from).toList());
+	}
+
+	/**
+	 * 소환사의 모든 스펠 쿨타임 알림을 하나의 SSE 연결로 전달
+	 * 쿨타임 등록 시 "registered", 쿨타임 종료 시 "available" 이벤트
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSpellAlerts(@RequestParam Long summonerId) {
+		return spellAlertEmitterRegistry.subscribe(summonerId);
 	}
 
 }
@@ -0,0 +1,43 @@
+package lolpago.spell.presentation.controller;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lolpago.spell.infrastructure.riot.RiotRateLimitExceededException;
+import lolpago.spell.infrastructure.riot.RiotSpectatorUnavailableException;
+import lolpago.spell.presentation.response.SpellErrorResponse;
+import lolpago.spell.presentation.response.SpellRateLimitResponse;
+
+/**
+ * 스펠 API 전용 예외 응답
+ * Riot 요청 한도 초과는 429 와 Retry-After 헤더로 빠르게 돌려주어 클라이언트가 재시도할 수 있게 한다
+ * 게임 종료가 아닌 Riot 실패는 "게임 없음"으로 보고하지 않고 502 로 돌려준다
+ * 두 예외의 메시지는 ExceptionMessage 에서 가져오고, 그 밖의 예외(NotFoundException 등)는 공통 예외 처리에 맡긴다
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(basePackages = "lolpago.spell")
+public class SpellExceptionHandler {
+
+	@ExceptionHandler(RiotRateLimitExceededException.class)
+	public ResponseEntity<SpellRateLimitResponse> handleRiotRateLimitExceeded(RiotRateLimitExceededException exception) {
+		// Retry-After 는 초 단위, 올림
+		long retryAfterSeconds = Math.max(1, (exception.getRetryAfterMillis() + 999) / 1000);
+
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+			.body(SpellRateLimitResponse.from(exception));
+	}
+
+	@ExceptionHandler(RiotSpectatorUnavailableException.class)
+	public ResponseEntity<SpellErrorResponse> handleRiotSpectatorUnavailable(
+		RiotSpectatorUnavailableException exception) {
+		return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+			.body(SpellErrorResponse.from(exception));
+	}
+
+}
@@ -0,0 +1,23 @@
+package lolpago.spell.presentation.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lolpago.region.Region;
+import lolpago.spell.application.command.SpellBatchCheckCommand;
+
+public record SpellBatchCheckRequest(
+		@NotNull
+		Long summonerId,
+		@NotEmpty
+		List<@NotNull String> finalTexts,
+		@NotNull
+		Region region
+) {
+
+	public SpellBatchCheckCommand toCommand() {
+		return new SpellBatchCheckCommand(summonerId, finalTexts, region);
+	}
+
+}
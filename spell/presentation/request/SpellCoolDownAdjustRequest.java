@@ -0,0 +1,17 @@
+package lolpago.spell.presentation.request;
+
+import jakarta.validation.constraints.NotNull;
+import lolpago.spell.application.command.SpellCoolDownAdjustCommand;
+
+public record SpellCoolDownAdjustRequest(
+		@NotNull
+		Long summonerId,
+		@NotNull
+		String finalText
+) {
+
+	public SpellCoolDownAdjustCommand toCommand() {
+		return SpellCoolDownAdjustCommand.of(summonerId, finalText);
+	}
+
+}
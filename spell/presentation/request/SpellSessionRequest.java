@@ -0,0 +1,18 @@
+package lolpago.spell.presentation.request;
+
+import jakarta.validation.constraints.NotNull;
+import lolpago.region.Region;
+import lolpago.spell.application.command.SpellSessionCommand;
+
+public record SpellSessionRequest(
+		@NotNull
+		Long summonerId,
+		@NotNull
+		Region region
+) {
+
+	public SpellSessionCommand toCommand() {
+		return new SpellSessionCommand(summonerId, region);
+	}
+
+}
@@ -0,0 +1,20 @@
+package lolpago.spell.presentation.response;
+
+import lolpago.spell.application.result.SpellAlertResult;
+
+public record SpellAlertResponse(
+	String alertId,
+	Long summonerId,
+	String championName,
+	String spellName,
+	String spellCoolDownMessage,
+	long expiredAtMillis
+) {
+	public static SpellAlertResponse from(
+		SpellAlertResult spellAlertResult
+	) {
+		return new SpellAlertResponse(spellAlertResult.alertId(), spellAlertResult.summonerId(),
+			spellAlertResult.championName(), spellAlertResult.spellName(), spellAlertResult.spellCoolDownMessage(),
+			spellAlertResult.expiredAtMillis());
+	}
+}
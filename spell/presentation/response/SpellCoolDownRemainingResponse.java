@@ -0,0 +1,18 @@
+package lolpago.spell.presentation.response;
+
+import lolpago.spell.application.result.SpellCoolDownRemainingResult;
+
+public record SpellCoolDownRemainingResponse(
+	Long summonerId,
+	String championName,
+	String spellName,
+	long remainingMillis
+) {
+	public static SpellCoolDownRemainingResponse from(
+		SpellCoolDownRemainingResult spellCoolDownRemainingResult
+	) {
+		return new SpellCoolDownRemainingResponse(spellCoolDownRemainingResult.summonerId(),
+			spellCoolDownRemainingResult.championName(), spellCoolDownRemainingResult.spellName(),
+			spellCoolDownRemainingResult.remainingMillis());
+	}
+}
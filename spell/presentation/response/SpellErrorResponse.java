@@ -0,0 +1,12 @@
+package lolpago.spell.presentation.response;
+
+public record SpellErrorResponse(
+	String message
+) {
+	public static SpellErrorResponse from(
+		RuntimeException exception
+	) {
+		return new SpellErrorResponse(exception.getMessage());
+	}
+
+}
@@ -0,0 +1,15 @@
+package lolpago.spell.presentation.response;
+
+import lolpago.spell.infrastructure.riot.RiotRateLimitExceededException;
+
+public record SpellRateLimitResponse(
+	String message,
+	long retryAfterMillis
+) {
+	public static SpellRateLimitResponse from(
+		RiotRateLimitExceededException exception
+	) {
+		return new SpellRateLimitResponse(exception.getMessage(), exception.getRetryAfterMillis());
+	}
+
+}
@@ -0,0 +1,151 @@
+package lolpago.spell.presentation.sse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lolpago.spell.application.event.SpellCoolDownAdjustedEvent;
+import lolpago.spell.application.event.SpellCoolDownCancelledEvent;
+import lolpago.spell.application.event.SpellCoolDownExpiredEvent;
+import lolpago.spell.application.event.SpellCoolDownRegisteredEvent;
+import lolpago.spell.presentation.response.SpellCheckResponse;
+import lolpago.spell.presentation.response.SpellCoolDownRemainingResponse;
+import lolpago.spell.presentation.response.SpellCoolDownResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 소환사별 스펠 알림 스트림의 리액티브 버전 (reactive 프로필)
+ * SpellAlertEmitterRegistry 와 같은 이벤트를 보내며, 이벤트는 소환사별 Sink 에 넣기만 하고 소켓 쓰기는 구독자 쪽에서 일어나므로
+ * 발행 스레드(타이밍 휠, Redis 리스너)를 막지 않는다, 따라가지 못하는 구독자에게는 이벤트를 버린다
+ */
+@Component
+@Profile("reactive")
+public class ReactiveSpellAlertSinkRegistry {
+	private static final String REGISTERED_EVENT = "registered";
+	private static final String AVAILABLE_EVENT = "available";
+	private static final String ADJUSTED_EVENT = "adjusted";
+	private static final String CANCELLED_EVENT = "cancelled";
+	private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+	private final Map<Long, Sinks.Many<ServerSentEvent<Object>>> sinks = new ConcurrentHashMap<>();
+	// 등록 후 아직 "available" 을 보내지 않은 쿨타임 키 (만료 신호 중복 제거용)
+	// 연결이 열려 있는 소환사만 담고, 만료/취소되거나 소환사의 마지막 연결이 닫히면 지운다
+	private final Map<Long, Set<String>> pendingKeys = new ConcurrentHashMap<>();
+	private final Duration heartbeatInterval;
+
+	public ReactiveSpellAlertSinkRegistry(@Value("${spell.sse.heartbeat-millis:15000}") long heartbeatMillis) {
+		this.heartbeatInterval = Duration.ofMillis(heartbeatMillis);
+	}
+
+	/**
+	 * 소환사의 스펠 알림 스트림 구독, 프록시 유휴 타임아웃으로 끊기지 않도록 heartbeat 주석을 섞어 보낸다
+	 */
+	public Flux<ServerSentEvent<Object>> subscribe(Long summonerId) {
+		Sinks.Many<ServerSentEvent<Object>> sink = sinks.computeIfAbsent(summonerId,
+			id -> Sinks.many().multicast().directBestEffort());
+
+		Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeatInterval)
+			.map(tick -> ServerSentEvent.builder().comment(HEARTBEAT_COMMENT).build());
+
+		return Flux.merge(sink.asFlux(), heartbeats)
+			.doFinally(signal -> sinks.computeIfPresent(summonerId, (id, current) -> {
+				// 마지막 구독자가 떠나면 그 소환사의 대기 키도 지운다
+				if(current.currentSubscriberCount() == 0) {
+					pendingKeys.remove(summonerId);
+					return null;
+				}
+				return current;
+			}));
+	}
+
+	@EventListener
+	public void onRegistered(SpellCoolDownRegisteredEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+		addPendingKey(spellCoolDownKey);
+
+		emit(spellCoolDownKey.summonerId(), REGISTERED_EVENT, new SpellCheckResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.championName(), spellCoolDownKey.spellName(),
+			event.spellCheckMessage()
+		));
+	}
+
+	@EventListener
+	public void onExpired(SpellCoolDownExpiredEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+
+		// 이 노드에서 등록된 쿨타임이고 아직 알리지 않은 경우에만 전송
+		if(!removePendingKey(spellCoolDownKey)) {
+			return;
+		}
+
+		emit(spellCoolDownKey.summonerId(), AVAILABLE_EVENT, new SpellCoolDownResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.alertMessage()
+		));
+	}
+
+	// 조정된 남은 시간을 보내고, 이 노드가 등록을 못 봤더라도 만료 알림을 보낼 수 있도록 대기 키로 둔다
+	@EventListener
+	public void onAdjusted(SpellCoolDownAdjustedEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+		addPendingKey(spellCoolDownKey);
+
+		emit(spellCoolDownKey.summonerId(), ADJUSTED_EVENT, new SpellCoolDownRemainingResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.championName(), spellCoolDownKey.spellName(),
+			event.remainingMillis()
+		));
+	}
+
+	@EventListener
+	public void onCancelled(SpellCoolDownCancelledEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+
+		// 취소된 쿨타임은 만료 알림을 보내지 않는다
+		if(!removePendingKey(spellCoolDownKey)) {
+			return;
+		}
+
+		emit(spellCoolDownKey.summonerId(), CANCELLED_EVENT, new SpellCoolDownResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.cancelMessage()
+		));
+	}
+
+	// 알림을 받을 연결이 없는 소환사의 키는 쌓지 않는다
+	private void addPendingKey(SpellCoolDownKey spellCoolDownKey) {
+		Long summonerId = spellCoolDownKey.summonerId();
+		if(!sinks.containsKey(summonerId)) {
+			return;
+		}
+		pendingKeys.computeIfAbsent(summonerId, id -> ConcurrentHashMap.newKeySet()).add(spellCoolDownKey.toRedisKey());
+	}
+
+	private boolean removePendingKey(SpellCoolDownKey spellCoolDownKey) {
+		boolean[] removed = new boolean[1];
+		pendingKeys.computeIfPresent(spellCoolDownKey.summonerId(), (id, keys) -> {
+			removed[0] = keys.remove(spellCoolDownKey.toRedisKey());
+			return keys.isEmpty() ? null : keys;
+		});
+		return removed[0];
+	}
+
+	// 여러 스레드에서 발행되므로 Sink 별로 직렬화해 넣는다, 구독자가 없거나 따라가지 못하면 버려진다
+	private void emit(Long summonerId, String eventName, Object data) {
+		Sinks.Many<ServerSentEvent<Object>> sink = sinks.get(summonerId);
+		if(sink == null) {
+			return;
+		}
+
+		synchronized(sink) {
+			sink.tryEmitNext(ServerSentEvent.builder(data).event(eventName).build());
+		}
+	}
+
+}
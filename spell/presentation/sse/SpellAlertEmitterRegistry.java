@@ -0,0 +1,230 @@
+package lolpago.spell.presentation.sse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lolpago.spell.application.cooldown.SpellCoolDownKey;
+import lolpago.spell.application.event.SpellCoolDownAdjustedEvent;
+import lolpago.spell.application.event.SpellCoolDownCancelledEvent;
+import lolpago.spell.application.event.SpellCoolDownExpiredEvent;
+import lolpago.spell.application.event.SpellCoolDownRegisteredEvent;
+import lolpago.spell.presentation.response.SpellCheckResponse;
+import lolpago.spell.presentation.response.SpellCoolDownRemainingResponse;
+import lolpago.spell.presentation.response.SpellCoolDownResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소환사별 스펠 알림 SSE 연결을 관리
+ * 쿨타임 등록 시 "registered", 남은 시간 조정 시 "adjusted", 쿨타임 종료 시 "available", 쿨타임 취소 시 "cancelled" 이벤트를 전송
+ * 이벤트는 타이밍 휠 틱 스레드, Redis 리스너 스레드, 요청 스레드에서 발행되므로 소켓 쓰기는 전용 풀에서 수행해
+ * 느린 클라이언트가 만료 처리를 막지 않게 하고, 쿨타임 사이에 프록시 유휴 타임아웃으로 끊기지 않도록 주기적으로 heartbeat 주석을 보낸다
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class SpellAlertEmitterRegistry {
+	private static final String REGISTERED_EVENT = "registered";
+	private static final String AVAILABLE_EVENT = "available";
+	private static final String ADJUSTED_EVENT = "adjusted";
+	private static final String CANCELLED_EVENT = "cancelled";
+	// 한 게임을 충분히 덮는 연결 유지 시간, 만료되면 클라이언트가 재연결
+	private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(60);
+	private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+	private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+	// 등록 후 아직 "available" 을 보내지 않은 쿨타임 키 (만료 신호 중복 제거용)
+	// 연결이 열려 있는 소환사만 담고, 만료/취소되거나 소환사의 마지막 연결이 닫히면 지운다
+	private final Map<Long, Set<String>> pendingKeys = new ConcurrentHashMap<>();
+	// SSE 쓰기 전용 스레드, 소환사별로 한 스레드에 고정해 이벤트 순서를 지킨다
+	// 큐가 가득 차면 해당 이벤트는 버린다 (놓친 만료 알림은 /spell/alerts 로 다시 읽을 수 있다)
+	private final ThreadPoolExecutor[] sendExecutors;
+	private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "spell-sse-heartbeat");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final long heartbeatMillis;
+
+	public SpellAlertEmitterRegistry(
+		@Value("${spell.sse.send-threads:4}") int sendThreads,
+		@Value("${spell.sse.send-queue-capacity:10000}") int sendQueueCapacity,
+		@Value("${spell.sse.heartbeat-millis:15000}") long heartbeatMillis
+	) {
+		this.sendExecutors = new ThreadPoolExecutor[sendThreads];
+		for(int i = 0; i < sendThreads; i++) {
+			String threadName = "spell-sse-send-" + i;
+			sendExecutors[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(sendQueueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, threadName);
+					thread.setDaemon(true);
+					return thread;
+				});
+		}
+		this.heartbeatMillis = heartbeatMillis;
+	}
+
+	@PostConstruct
+	public void start() {
+		heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		heartbeatScheduler.shutdownNow();
+		for(ThreadPoolExecutor sendExecutor : sendExecutors) {
+			sendExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 소환사의 스펠 알림 스트림 구독
+	 */
+	public SseEmitter subscribe(Long summonerId) {
+		SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+		emitters.compute(summonerId, (id, summonerEmitters) -> {
+			Set<SseEmitter> registered = summonerEmitters == null ? ConcurrentHashMap.newKeySet() : summonerEmitters;
+			registered.add(emitter);
+			return registered;
+		});
+
+		emitter.onCompletion(() -> remove(summonerId, emitter));
+		emitter.onTimeout(() -> remove(summonerId, emitter));
+		emitter.onError(ex -> remove(summonerId, emitter));
+
+		return emitter;
+	}
+
+	@EventListener
+	public void onRegistered(SpellCoolDownRegisteredEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+		addPendingKey(spellCoolDownKey);
+
+		send(spellCoolDownKey.summonerId(), REGISTERED_EVENT, new SpellCheckResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.championName(), spellCoolDownKey.spellName(),
+			event.spellCheckMessage()
+		));
+	}
+
+	@EventListener
+	public void onExpired(SpellCoolDownExpiredEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+
+		// 이 노드에서 등록된 쿨타임이고 아직 알리지 않은 경우에만 전송
+		if(!removePendingKey(spellCoolDownKey)) {
+			return;
+		}
+
+		send(spellCoolDownKey.summonerId(), AVAILABLE_EVENT, new SpellCoolDownResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.alertMessage()
+		));
+	}
+
+	// 조정된 남은 시간을 보내고, 이 노드가 등록을 못 봤더라도 만료 알림을 보낼 수 있도록 대기 키로 둔다
+	@EventListener
+	public void onAdjusted(SpellCoolDownAdjustedEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+		addPendingKey(spellCoolDownKey);
+
+		send(spellCoolDownKey.summonerId(), ADJUSTED_EVENT, new SpellCoolDownRemainingResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.championName(), spellCoolDownKey.spellName(),
+			event.remainingMillis()
+		));
+	}
+
+	@EventListener
+	public void onCancelled(SpellCoolDownCancelledEvent event) {
+		SpellCoolDownKey spellCoolDownKey = event.spellCoolDownKey();
+
+		// 취소된 쿨타임은 만료 알림을 보내지 않는다
+		if(!removePendingKey(spellCoolDownKey)) {
+			return;
+		}
+
+		send(spellCoolDownKey.summonerId(), CANCELLED_EVENT, new SpellCoolDownResponse(
+			spellCoolDownKey.summonerId(), spellCoolDownKey.cancelMessage()
+		));
+	}
+
+	// 알림을 받을 연결이 없는 소환사의 키는 쌓지 않는다
+	private void addPendingKey(SpellCoolDownKey spellCoolDownKey) {
+		Long summonerId = spellCoolDownKey.summonerId();
+		if(!emitters.containsKey(summonerId)) {
+			return;
+		}
+		pendingKeys.computeIfAbsent(summonerId, id -> ConcurrentHashMap.newKeySet()).add(spellCoolDownKey.toRedisKey());
+	}
+
+	private boolean removePendingKey(SpellCoolDownKey spellCoolDownKey) {
+		boolean[] removed = new boolean[1];
+		pendingKeys.computeIfPresent(spellCoolDownKey.summonerId(), (id, keys) -> {
+			removed[0] = keys.remove(spellCoolDownKey.toRedisKey());
+			return keys.isEmpty() ? null : keys;
+		});
+		return removed[0];
+	}
+
+	private void send(Long summonerId, String eventName, Object data) {
+		Set<SseEmitter> summonerEmitters = emitters.get(summonerId);
+		if(summonerEmitters == null) {
+			return;
+		}
+
+		for(SseEmitter emitter : summonerEmitters) {
+			submit(summonerId, emitter, SseEmitter.event().name(eventName).data(data));
+		}
+	}
+
+	// 모든 연결에 heartbeat 주석 전송, 끊어진 연결도 이때 정리된다
+	private void sendHeartbeats() {
+		emitters.forEach((summonerId, summonerEmitters) -> summonerEmitters.forEach(emitter ->
+			submit(summonerId, emitter, SseEmitter.event().comment(HEARTBEAT_COMMENT))));
+	}
+
+	// 소켓 쓰기는 소환사의 전송 스레드에서 수행, 호출 스레드는 기다리지 않는다
+	private void submit(Long summonerId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			sendExecutors[Math.floorMod(summonerId.hashCode(), sendExecutors.length)].execute(() -> {
+				try {
+					emitter.send(event);
+				}
+				catch (IOException | IllegalStateException ex) {
+					// 끊어진 연결은 정리
+					log.debug("스펠 알림 전송 실패 summonerId={}", summonerId, ex);
+					remove(summonerId, emitter);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			log.warn("스펠 알림 전송 큐 초과 summonerId={}", summonerId);
+		}
+	}
+
+	// 마지막 연결이 닫히면 그 소환사의 대기 키도 지운다
+	private void remove(Long summonerId, SseEmitter emitter) {
+		emitters.computeIfPresent(summonerId, (id, summonerEmitters) -> {
+			summonerEmitters.remove(emitter);
+			if(summonerEmitters.isEmpty()) {
+				pendingKeys.remove(summonerId);
+				return null;
+			}
+			return summonerEmitters;
+		});
+	}
+
+}